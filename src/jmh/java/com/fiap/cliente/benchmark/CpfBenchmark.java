@@ -0,0 +1,73 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.domain.Cpf;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link Cpf} against the usual regex/substring implementation of the same rules, on plain and formatted
+ * input; run with {@code -prof gc} to compare the allocations per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfBenchmark {
+
+    private static final Pattern FORMAT = Pattern.compile("\\d{3}\\.?\\d{3}\\.?\\d{3}-?\\d{2}");
+    private static final Pattern SEPARATORS = Pattern.compile("[.-]");
+    private static final Pattern REPEATED = Pattern.compile("(\\d)\\1{10}");
+
+    String digits = "52998224725";
+    String formatted = "529.982.247-25";
+
+    @Benchmark
+    public String engineDigits() {
+        return Cpf.normalize(digits);
+    }
+
+    @Benchmark
+    public String engineFormatted() {
+        return Cpf.normalize(formatted);
+    }
+
+    @Benchmark
+    public String regexDigits() {
+        return regexNormalize(digits);
+    }
+
+    @Benchmark
+    public String regexFormatted() {
+        return regexNormalize(formatted);
+    }
+
+    static String regexNormalize(String cpf) {
+        if (cpf == null || !FORMAT.matcher(cpf).matches()) {
+            return null;
+        }
+        String normalized = SEPARATORS.matcher(cpf).replaceAll("");
+        if (REPEATED.matcher(normalized).matches()) {
+            return null;
+        }
+        List<Integer> numbers = normalized.chars()
+                .mapToObj(c -> Integer.parseInt(String.valueOf((char) c)))
+                .toList();
+        int first = checkDigit(numbers, 9);
+        int second = checkDigit(numbers, 10);
+        return numbers.get(9) == first && numbers.get(10) == second ? normalized : null;
+    }
+
+    private static int checkDigit(List<Integer> numbers, int length) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += numbers.get(i) * (length + 1 - i);
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
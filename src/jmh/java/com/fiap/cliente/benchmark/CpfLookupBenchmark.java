@@ -0,0 +1,136 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.support.Cpfs;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Equality lookup through the unique CPF index with the column stored as {@code VARCHAR(11)} (before V5)
+ * and as {@code BIGINT}. Runs on an in-memory H2 by default; point it at PostgreSQL to also print the size
+ * of each index, e.g. {@code -p url=jdbc:postgresql://localhost:5432/customerdb -p user=postgres -p password=postgres}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CpfLookupBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"varchar", "bigint"})
+    String keyType;
+
+    @Param("100000")
+    int rows;
+
+    @Param("jdbc:h2:mem:cpf-lookup;DB_CLOSE_DELAY=-1")
+    String url;
+
+    @Param("sa")
+    String user;
+
+    @Param("")
+    String password;
+
+    Connection connection;
+    PreparedStatement lookup;
+    String[] cpfs;
+    int next;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        cpfs = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            cpfs[i] = Cpfs.valid(i);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table());
+            statement.execute("CREATE TABLE " + table() + " (id BIGINT PRIMARY KEY, cpf "
+                    + ("bigint".equals(keyType) ? "BIGINT" : "VARCHAR(11)") + " NOT NULL, CONSTRAINT "
+                    + index() + " UNIQUE (cpf))");
+        }
+        load();
+        if (isPostgres()) {
+            printIndexSize();
+        }
+        lookup = connection.prepareStatement("SELECT id FROM " + table() + " WHERE cpf = ?");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table());
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long findByCpf() throws SQLException {
+        String cpf = cpfs[next];
+        next = next + 1 == rows ? 0 : next + 1;
+        bind(lookup, 1, cpf);
+        try (ResultSet result = lookup.executeQuery()) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private void load() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table() + " (id, cpf) VALUES (?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setLong(1, i);
+                bind(insert, 2, cpfs[i]);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private void printIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE " + table());
+            try (ResultSet size = statement.executeQuery(
+                    "SELECT pg_relation_size('" + index() + "'), pg_size_pretty(pg_relation_size('" + index() + "'))")) {
+                size.next();
+                System.out.println(index() + ": " + size.getLong(1) + " bytes (" + size.getString(2) + ")");
+            }
+        }
+    }
+
+    private void bind(PreparedStatement statement, int index, String cpf) throws SQLException {
+        if ("bigint".equals(keyType)) {
+            statement.setLong(index, Cpf.toNumber(cpf));
+        } else {
+            statement.setString(index, cpf);
+        }
+    }
+
+    private boolean isPostgres() throws SQLException {
+        return "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private String table() {
+        return "cpf_lookup_" + keyType;
+    }
+
+    private String index() {
+        return "uk_cpf_lookup_" + keyType;
+    }
+}
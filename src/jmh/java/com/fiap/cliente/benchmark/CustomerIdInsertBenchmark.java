@@ -0,0 +1,97 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.domain.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts into a table that already holds {@code rows} customers, keyed by random version 4 ids
+ * and by time-ordered {@link TimeOrderedUuid} ids. Runs on an in-memory H2 by default; point it at
+ * PostgreSQL to also print the primary key size after the run, e.g.
+ * {@code -p url=jdbc:postgresql://localhost:5432/customerdb -p user=postgres -p password=postgres}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String NAME = "Maria Souza de Oliveira";
+
+    @Param({"v4", "v7"})
+    String idType;
+
+    @Param("1000000")
+    int rows;
+
+    @Param("jdbc:h2:mem:customer-id-insert;DB_CLOSE_DELAY=-1")
+    String url;
+
+    @Param("sa")
+    String user;
+
+    @Param("")
+    String password;
+
+    Connection connection;
+    PreparedStatement insert;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table());
+            statement.execute("CREATE TABLE " + table() + " (id UUID PRIMARY KEY, full_name VARCHAR(255) NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + table() + " (id, full_name) VALUES (?, ?)");
+        for (int loaded = 0; loaded < rows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        if ("PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            try (Statement statement = connection.createStatement();
+                 ResultSet size = statement.executeQuery("SELECT pg_relation_size('" + table() + "_pkey'), "
+                         + "pg_size_pretty(pg_relation_size('" + table() + "_pkey'))")) {
+                size.next();
+                System.out.println(table() + "_pkey: " + size.getLong(1) + " bytes (" + size.getString(2) + ")");
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table());
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, "v7".equals(idType) ? TimeOrderedUuid.next() : UUID.randomUUID());
+            insert.setString(2, NAME);
+            insert.addBatch();
+        }
+        int[] inserted = insert.executeBatch();
+        connection.commit();
+        return inserted;
+    }
+
+    private String table() {
+        return "customer_id_insert_" + idType;
+    }
+}
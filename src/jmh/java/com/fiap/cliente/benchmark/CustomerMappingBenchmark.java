@@ -0,0 +1,102 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.controller.json.AddressDTO;
+import com.fiap.cliente.controller.json.CustomerRequestDTO;
+import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.database.jpa.entity.AddressEmbeddable;
+import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
+import com.fiap.cliente.mapper.AddressMapperImpl;
+import com.fiap.cliente.mapper.CursorMapper;
+import com.fiap.cliente.mapper.CustomerMapper;
+import com.fiap.cliente.mapper.CustomerMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of each MapStruct conversion a create/read request goes through: DTO to domain, domain to
+ * entity and back, and domain to response DTO. {@code readThroughDomain} and {@code readThroughView}
+ * compare the per-customer cost of the old read path with the {@link CustomerView} projection; run
+ * them with {@code -prof gc} to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMappingBenchmark {
+
+    CustomerMapper customerMapper;
+    CustomerRequestDTO request;
+    Customer customer;
+    CustomerEntity entity;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        customerMapper = newCustomerMapper();
+        request = new CustomerRequestDTO("Joao Paulo Rodrigues", "12345678909", LocalDate.of(1990, 1, 1),
+                new AddressDTO("Rua Artur", "3", "Recife", "Pernambuco", "25611-123"));
+        customer = customerMapper.toDomain(UUID.randomUUID(), 0L, request);
+        entity = customerMapper.toEntity(customer);
+    }
+
+    @Benchmark
+    public Customer requestToDomain() {
+        return customerMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public CustomerEntity domainToEntity() {
+        return customerMapper.toEntity(customer);
+    }
+
+    @Benchmark
+    public Customer entityToDomain() {
+        return customerMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO domainToResponse() {
+        return customerMapper.toResponse(customer);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO readThroughDomain() {
+        return customerMapper.toResponse(customerMapper.toDomain(entity));
+    }
+
+    @Benchmark
+    public CustomerResponseDTO readThroughView() {
+        AddressEmbeddable address = entity.getAddress();
+        CustomerView view = new CustomerView(entity.getId(), entity.getFullName(), entity.getCpf(), entity.getBirthDate(),
+                address.getStreet(), address.getNumber(), address.getCity(), address.getState(), address.getZipCode(),
+                entity.getVersion());
+        return customerMapper.toResponse(view);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO roundTrip() {
+        Customer domain = customerMapper.toDomain(request);
+        CustomerEntity persisted = customerMapper.toEntity(domain);
+        return customerMapper.toResponse(customerMapper.toDomain(persisted));
+    }
+
+    static CustomerMapper newCustomerMapper() throws ReflectiveOperationException {
+        CustomerMapperImpl customerMapper = new CustomerMapperImpl();
+        inject(customerMapper, "addressMapper", new AddressMapperImpl());
+        inject(customerMapper, "cursorMapper", new CursorMapper());
+        return customerMapper;
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,94 @@
+package com.fiap.cliente.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fiap.cliente.controller.json.AddressDTO;
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerRequestDTO;
+import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import com.fiap.cliente.mapper.CustomerMapper;
+import com.fiap.cliente.support.Cpfs;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of encoding and decoding a {@link CustomerPageResponseDTO}, sized like a single customer, a default
+ * page and the largest page, in every format the controller negotiates. Protobuf uses the messages of
+ * {@code proto/customer.proto}, as the controller does. The payload size of each combination is printed
+ * once per fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerSerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    int size;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    String format;
+
+    ObjectWriter writer;
+    ObjectReader reader;
+    CustomerPageResponseDTO page;
+    byte[] encoded;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException, IOException {
+        CustomerMapper customerMapper = CustomerMappingBenchmark.newCustomerMapper();
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            case "smile" -> SmileMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            case "protobuf" -> ProtobufMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .addModule(new SimpleModule().addSerializer(UUID.class, ToStringSerializer.instance)).build();
+            default -> JsonMapper.builder().findAndAddModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+        };
+        writer = mapper.writerFor(CustomerPageResponseDTO.class);
+        reader = mapper.readerFor(CustomerPageResponseDTO.class);
+        if (format.equals("protobuf")) {
+            try (InputStream proto = getClass().getResourceAsStream("/proto/customer.proto")) {
+                ProtobufSchema schema = ProtobufSchemaLoader.std.loadNative(proto, true).forType("CustomerPage");
+                writer = writer.with(schema);
+                reader = reader.with(schema);
+            }
+        }
+        List<CustomerResponseDTO> customers = IntStream.range(0, size)
+                .mapToObj(i -> new CustomerRequestDTO("Customer " + i, Cpfs.valid(i), LocalDate.of(1990, 1, 1),
+                        new AddressDTO("Rua Artur", String.valueOf(i), "Recife", "Pernambuco", "25611-123")))
+                .map(request -> customerMapper.toResponse(customerMapper.toDomain(UUID.randomUUID(), 0L, request)))
+                .toList();
+        page = CustomerPageResponseDTO.builder().items(customers).approximateTotal((long) size).build();
+        encoded = writer.writeValueAsBytes(page);
+        System.out.println(format + " x" + size + ": " + encoded.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public CustomerPageResponseDTO deserializePage() throws IOException {
+        return reader.readValue(encoded);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fiap.cliente.benchmark;
+
+import com.fiap.cliente.domain.Address;
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.exception.InvalidCpfException;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building domain objects, including the validation done in their constructors. The
+ * rejection benchmark shows what an invalid request costs, exception included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerValidationBenchmark {
+
+    UUID id = UUID.randomUUID();
+    LocalDate birthDate = LocalDate.of(1990, 1, 1);
+    String validCpf = "12345678909";
+    String invalidCpf = "123";
+
+    @Benchmark
+    public Address newAddress() {
+        return new Address("Rua Artur", "3", "Recife", "Pernambuco", "25611-123");
+    }
+
+    @Benchmark
+    public Customer newCustomer() {
+        return new Customer(id, "Joao Paulo Rodrigues", validCpf, birthDate,
+                new Address("Rua Artur", "3", "Recife", "Pernambuco", "25611-123"), 0L);
+    }
+
+    @Benchmark
+    public Object rejectInvalidCpf() {
+        try {
+            return new Customer(id, "Joao Paulo Rodrigues", invalidCpf, birthDate, null, 0L);
+        } catch (InvalidCpfException ex) {
+            return ex;
+        }
+    }
+}
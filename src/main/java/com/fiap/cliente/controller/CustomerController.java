@@ -1,36 +1,84 @@
 package com.fiap.cliente.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fiap.cliente.controller.json.CustomerBatchResponseDTO;
+import com.fiap.cliente.controller.json.CustomerFieldsPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerFieldsResponseDTO;
+import com.fiap.cliente.controller.json.CustomerLookupResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPatchDTO;
 import com.fiap.cliente.controller.json.CustomerRequestDTO;
 import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import com.fiap.cliente.controller.json.SerializedCustomerResponse;
 import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerBatchItem;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.domain.CustomerLookup;
+import com.fiap.cliente.domain.CustomerPage;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.infra.BinaryFormatsConfig;
+import com.fiap.cliente.infra.ReactiveConfig;
+import com.fiap.cliente.mapper.CursorMapper;
+import com.fiap.cliente.mapper.CustomerFieldsMapper;
 import com.fiap.cliente.mapper.CustomerMapper;
+import com.fiap.cliente.mapper.ETagMapper;
 import com.fiap.cliente.usecase.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/customers")
+@Profile("!" + ReactiveConfig.PROFILE)
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class CustomerController {
 
     CreateCustomerUseCase createCustomerUseCase;
+    CreateCustomersBatchUseCase createCustomersBatchUseCase;
     RetrieveCustomerByIdUseCase retrieveCustomerByIdUseCase;
-    RetrieveAllCustomersUseCase retrieveAllCustomersUseCase;
+    RetrieveCustomersPageUseCase retrieveCustomersPageUseCase;
+    RetrieveCustomersByIdsUseCase retrieveCustomersByIdsUseCase;
+    SearchCustomersByNameUseCase searchCustomersByNameUseCase;
     DeleteCustomerByIdUseCase deleteCustomerByIdUseCase;
     UpdateCustomerUseCase updateCustomerUseCase;
+    PatchCustomerUseCase patchCustomerUseCase;
+    ExportCustomersUseCase exportCustomersUseCase;
     CustomerMapper customerMapper;
+    CursorMapper cursorMapper;
+    ETagMapper eTagMapper;
+    CustomerFieldsMapper customerFieldsMapper;
+    CustomerResponseCache customerResponseCache;
+    ObjectMapper objectMapper;
 
     @Operation(summary = "Create a new customer", description = "Creates a new customer and returns the created customer")
     @ApiResponses(value = {
@@ -45,33 +93,230 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.CREATED.value()).body(response);
     }
 
+    @Operation(summary = "Create customers in batch", description = "Creates many customers at once and reports, in request order, whether each one was created, duplicate or invalid")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed"),
+            @ApiResponse(responseCode = "413", description = "Batch too large")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<CustomerBatchResponseDTO> createBatch(@RequestBody List<CustomerRequestDTO> dtos) {
+        List<Supplier<Customer>> candidates = dtos.stream()
+                .<Supplier<Customer>>map(dto -> () -> customerMapper.toDomain(dto))
+                .toList();
+        List<CustomerBatchItem> results = createCustomersBatchUseCase.execute(candidates);
+        Map<CustomerBatchItem.Status, Long> totals = results.stream()
+                .collect(Collectors.groupingBy(CustomerBatchItem::getStatus, Collectors.counting()));
+        CustomerBatchResponseDTO response = CustomerBatchResponseDTO.builder()
+                .created(totals.getOrDefault(CustomerBatchItem.Status.CREATED, 0L))
+                .duplicates(totals.getOrDefault(CustomerBatchItem.Status.DUPLICATE, 0L))
+                .invalid(totals.getOrDefault(CustomerBatchItem.Status.INVALID, 0L))
+                .items(results.stream().map(customerMapper::toBatchItemResponse).toList())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Get customer by ID", description = "Retrieves a customer by their unique identifier")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Customer found"),
+            @ApiResponse(responseCode = "200", description = "Customer found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CustomerResponseDTO.class))),
+            @ApiResponse(responseCode = "304", description = "Customer not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Customer not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerResponseDTO> getById(
+    public ResponseEntity<byte[]> getById(
             @Parameter(description = "Customer ID", required = true)
-            @PathVariable UUID id) {
-        Customer customer = retrieveCustomerByIdUseCase.execute(id);
-        CustomerResponseDTO response = customerMapper.toResponse(customer);
-        return ResponseEntity.ok(response);
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the representation already held by the client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedCustomerResponse response = customerResponseCache.get(id, () -> {
+            CustomerView customer = retrieveCustomerByIdUseCase.execute(id);
+            return customerResponseCache.serialize(eTagMapper.toETag(customer.getVersion()),
+                    customerMapper.toResponse(customer));
+        });
+        if (eTagMapper.matchesIfNoneMatch(ifNoneMatch, response.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.getETag()).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(response.getETag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.getBody());
+    }
+
+    @Operation(summary = "Get customer by ID as CBOR", description = "Same representation as the JSON one, for service-to-service callers that negotiate a binary format")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer found"),
+            @ApiResponse(responseCode = "304", description = "Customer not modified since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<CustomerResponseDTO> getCborById(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the representation already held by the client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toBinaryResponse(id, ifNoneMatch, ETagMapper.CBOR);
+    }
+
+    @Operation(summary = "Get customer by ID as Smile", description = "Same representation as the JSON one, for service-to-service callers that negotiate a binary format")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer found"),
+            @ApiResponse(responseCode = "304", description = "Customer not modified since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    @GetMapping(value = "/{id}", produces = BinaryFormatsConfig.APPLICATION_SMILE_VALUE)
+    public ResponseEntity<CustomerResponseDTO> getSmileById(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the representation already held by the client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toBinaryResponse(id, ifNoneMatch, ETagMapper.SMILE);
+    }
+
+    @Operation(summary = "Get customer by ID as Protobuf", description = "CustomerResponse message of proto/customer.proto, for service-to-service callers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer found"),
+            @ApiResponse(responseCode = "304", description = "Customer not modified since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    @GetMapping(value = "/{id}", produces = BinaryFormatsConfig.APPLICATION_PROTOBUF_VALUE)
+    public ResponseEntity<CustomerResponseDTO> getProtobufById(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the representation already held by the client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return toBinaryResponse(id, ifNoneMatch, ETagMapper.PROTOBUF);
+    }
+
+    @Operation(summary = "Get selected fields of a customer by ID", description = "Reads and returns only the requested properties of a customer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer found"),
+            @ApiResponse(responseCode = "304", description = "Customer not modified since the given ETag"),
+            @ApiResponse(responseCode = "400", description = "Unknown field"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<CustomerFieldsResponseDTO> getFieldsById(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Comma-separated properties to return, e.g. id,fullName,address.city", required = true)
+            @RequestParam String fields,
+            @Parameter(description = "ETag of the representation already held by the client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<CustomerField> selected = customerFieldsMapper.fromFields(fields);
+        CustomerView customer = retrieveCustomerByIdUseCase.execute(id, selected);
+        String eTag = eTagMapper.toETag(customer.getVersion());
+        if (eTagMapper.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(customerMapper.toFieldsResponse(customer, selected));
     }
 
-    @Operation(summary = "Get all customers", description = "Retrieves a list of all customers")
+    @Operation(summary = "Get customers page", description = "Retrieves a page of customers ordered by ID using keyset pagination")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of customers retrieved")
+            @ApiResponse(responseCode = "200", description = "Page of customers retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
     })
     @GetMapping
-    public ResponseEntity<List<CustomerResponseDTO>> getAll() {
-        List<Customer> customers = retrieveAllCustomersUseCase.execute();
-        List<CustomerResponseDTO> response = customers.stream()
+    public ResponseEntity<CustomerPageResponseDTO> getAll(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of customers in the page (1-" + RetrieveCustomersPageUseCase.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Whether to include an approximate total number of customers (exact when filtered)")
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = "Only customers from this state")
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Only customers from this city")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Only customers born on or after this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornAfter,
+            @Parameter(description = "Only customers born on or before this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornBefore) {
+        CustomerFilter filter = new CustomerFilter(state, city, bornAfter, bornBefore);
+        CustomerPage page = retrieveCustomersPageUseCase.execute(filter, cursorMapper.fromCursor(after), limit, includeTotal);
+        CustomerPageResponseDTO response = customerMapper.toPageResponse(page);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Get selected fields of a customers page", description = "Same as the customers page, reading and returning only the requested properties")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of customers retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unknown field")
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<CustomerFieldsPageResponseDTO> getAllFields(
+            @Parameter(description = "Comma-separated properties to return, e.g. id,fullName,address.city", required = true)
+            @RequestParam String fields,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of customers in the page (1-" + RetrieveCustomersPageUseCase.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Whether to include an approximate total number of customers (exact when filtered)")
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @Parameter(description = "Only customers from this state")
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Only customers from this city")
+            @RequestParam(required = false) String city,
+            @Parameter(description = "Only customers born on or after this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornAfter,
+            @Parameter(description = "Only customers born on or before this date (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornBefore) {
+        Set<CustomerField> selected = customerFieldsMapper.fromFields(fields);
+        CustomerFilter filter = new CustomerFilter(state, city, bornAfter, bornBefore);
+        CustomerPage page = retrieveCustomersPageUseCase.execute(filter, cursorMapper.fromCursor(after), limit, includeTotal,
+                selected);
+        return ResponseEntity.ok(customerMapper.toFieldsPageResponse(page, selected));
+    }
+
+    @Operation(summary = "Look up many customers by ID", description = "Returns, in one round trip, the customers that exist among up to " + RetrieveCustomersByIdsUseCase.MAX_IDS + " given IDs and the IDs that were not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup processed"),
+            @ApiResponse(responseCode = "413", description = "Too many IDs")
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<CustomerLookupResponseDTO> lookup(@RequestBody List<UUID> ids) {
+        CustomerLookup lookup = retrieveCustomersByIdsUseCase.execute(ids);
+        return ResponseEntity.ok(customerMapper.toLookupResponse(lookup));
+    }
+
+    @Operation(summary = "Search customers by name", description = "Finds customers whose name starts with or, on PostgreSQL, resembles the given term, best matches first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching customers retrieved"),
+            @ApiResponse(responseCode = "400", description = "Search term too short")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<CustomerResponseDTO>> search(
+            @Parameter(description = "Name or name prefix, at least " + SearchCustomersByNameUseCase.MIN_TERM_LENGTH + " characters", required = true)
+            @RequestParam String name,
+            @Parameter(description = "Maximum number of customers returned (1-" + SearchCustomersByNameUseCase.MAX_RESULTS + ")")
+            @RequestParam(defaultValue = "20") int limit) {
+        List<CustomerResponseDTO> response = searchCustomersByNameUseCase.execute(name, limit).stream()
                 .map(customerMapper::toResponse)
                 .toList();
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Export all customers", description = "Streams every customer as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customers streamed")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        ObjectWriter writer = objectMapper.writerFor(CustomerResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                exportCustomersUseCase.execute(customer ->
+                        writeLine(writer, generator, customerMapper.toResponse(customer)));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Operation(summary = "Delete a customer", description = "Deletes a customer by their unique identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Customer deleted"),
@@ -82,6 +327,7 @@ public class CustomerController {
             @Parameter(description = "Customer ID", required = true)
             @PathVariable UUID id) {
         deleteCustomerByIdUseCase.execute(id);
+        customerResponseCache.evict(id);
         return ResponseEntity.noContent().build();
     }
 
@@ -89,16 +335,59 @@ public class CustomerController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Customer updated"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "404", description = "Customer not found")
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "412", description = "Customer changed since the ETag given in If-Match")
     })
     @PutMapping("/{id}")
     public ResponseEntity<CustomerResponseDTO> update(
             @Parameter(description = "Customer ID", required = true)
             @PathVariable UUID id,
+            @Parameter(description = "ETag the customer must still have for the update to be applied")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody CustomerRequestDTO dto) {
-        Customer customer = customerMapper.toDomain(id, dto);
-        updateCustomerUseCase.execute(customer);
-        CustomerResponseDTO response = customerMapper.toResponse(customer);
-        return ResponseEntity.ok(response);
+        Long expectedVersion = eTagMapper.fromIfMatch(ifMatch);
+        Customer customer = customerMapper.toDomain(id, expectedVersion, dto);
+        long version = updateCustomerUseCase.execute(customer);
+        customerResponseCache.evict(id);
+        return ResponseEntity.ok().eTag(eTagMapper.toETag(version)).body(customerMapper.toResponse(customer));
+    }
+
+    @Operation(summary = "Partially update a customer", description = "Updates only the fields present in the request; absent or null fields are left unchanged")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Customer updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "409", description = "CPF already registered"),
+            @ApiResponse(responseCode = "412", description = "Customer changed since the ETag given in If-Match")
+    })
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patch(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag the customer must still have for the update to be applied")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody CustomerPatchDTO dto) {
+        CustomerPatch patch = customerMapper.toPatch(dto);
+        long version = patchCustomerUseCase.execute(id, eTagMapper.fromIfMatch(ifMatch), patch);
+        customerResponseCache.evict(id);
+        return ResponseEntity.noContent().eTag(eTagMapper.toETag(version)).build();
+    }
+
+    private ResponseEntity<CustomerResponseDTO> toBinaryResponse(UUID id, String ifNoneMatch, String format) {
+        CustomerView customer = retrieveCustomerByIdUseCase.execute(id);
+        String eTag = eTagMapper.toETag(customer.getVersion(), format);
+        if (eTagMapper.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(customerMapper.toResponse(customer));
+    }
+
+    private void writeLine(ObjectWriter writer, JsonGenerator generator, CustomerResponseDTO response) {
+        try {
+            writer.writeValue(generator, response);
+            generator.writeRaw('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.fiap.cliente.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import com.fiap.cliente.controller.json.SerializedCustomerResponse;
+import com.fiap.cliente.infra.CacheConfig;
+import com.fiap.cliente.infra.ReactiveConfig;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+@Profile("!" + ReactiveConfig.PROFILE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CustomerResponseCache {
+
+    Cache cache;
+    ObjectWriter writer;
+
+    public CustomerResponseCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cache = cacheManager.getCache(CacheConfig.CUSTOMER_JSON_CACHE);
+        this.writer = objectMapper.writerFor(CustomerResponseDTO.class);
+    }
+
+    public SerializedCustomerResponse get(UUID customerId, Supplier<SerializedCustomerResponse> loader) {
+        try {
+            return cache.get(customerId, loader::get);
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public void evict(UUID customerId) {
+        cache.evict(customerId);
+    }
+
+    public SerializedCustomerResponse serialize(String eTag, CustomerResponseDTO response) {
+        try {
+            return new SerializedCustomerResponse(eTag, writer.writeValueAsBytes(response));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
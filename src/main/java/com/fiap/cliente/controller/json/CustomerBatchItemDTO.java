@@ -0,0 +1,16 @@
+package com.fiap.cliente.controller.json;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class CustomerBatchItemDTO implements Serializable {
+    private String status;
+    private UUID id;
+    private String cpf;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.fiap.cliente.controller.json;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@Builder
+public class CustomerBatchResponseDTO implements Serializable {
+    private long created;
+    private long duplicates;
+    private long invalid;
+    private List<CustomerBatchItemDTO> items;
+}
@@ -0,0 +1,14 @@
+package com.fiap.cliente.controller.json;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CustomerFieldsPageResponseDTO {
+    private List<CustomerFieldsResponseDTO> items;
+    private String nextCursor;
+    private Long approximateTotal;
+}
@@ -0,0 +1,17 @@
+package com.fiap.cliente.controller.json;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+@JsonSerialize(using = CustomerFieldsSerializer.class)
+public class CustomerFieldsResponseDTO {
+    private CustomerView customer;
+    private Set<CustomerField> fields;
+}
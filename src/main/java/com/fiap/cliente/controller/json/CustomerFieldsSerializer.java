@@ -0,0 +1,51 @@
+package com.fiap.cliente.controller.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerView;
+
+import java.io.IOException;
+
+public class CustomerFieldsSerializer extends StdSerializer<CustomerFieldsResponseDTO> {
+
+    public CustomerFieldsSerializer() {
+        super(CustomerFieldsResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(CustomerFieldsResponseDTO value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        CustomerView customer = value.getCustomer();
+        boolean withAddress = false;
+        generator.writeStartObject();
+        for (CustomerField field : value.getFields()) {
+            if (field.isAddress()) {
+                withAddress = true;
+            } else {
+                provider.defaultSerializeField(field.getProperty(), field.read(customer), generator);
+            }
+        }
+        if (withAddress) {
+            writeAddress(value, generator, provider);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeAddress(CustomerFieldsResponseDTO value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        CustomerView customer = value.getCustomer();
+        if (!customer.hasAddress()) {
+            generator.writeNullField(CustomerField.ADDRESS);
+            return;
+        }
+        generator.writeObjectFieldStart(CustomerField.ADDRESS);
+        for (CustomerField field : value.getFields()) {
+            if (field.isAddress()) {
+                provider.defaultSerializeField(field.getProperty(), field.read(customer), generator);
+            }
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fiap.cliente.controller.json;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class CustomerLookupResponseDTO implements Serializable {
+    private List<CustomerResponseDTO> items;
+    private List<UUID> missing;
+}
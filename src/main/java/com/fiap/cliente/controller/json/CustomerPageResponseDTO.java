@@ -0,0 +1,15 @@
+package com.fiap.cliente.controller.json;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@Builder
+public class CustomerPageResponseDTO implements Serializable {
+    private List<CustomerResponseDTO> items;
+    private String nextCursor;
+    private Long approximateTotal;
+}
@@ -0,0 +1,20 @@
+package com.fiap.cliente.controller.json;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CustomerPatchDTO implements Serializable {
+    private String fullName;
+    private String cpf;
+    private LocalDate birthDate;
+    private AddressDTO address;
+}
@@ -0,0 +1,11 @@
+package com.fiap.cliente.controller.json;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SerializedCustomerResponse {
+    private String eTag;
+    private byte[] body;
+}
@@ -0,0 +1,168 @@
+package com.fiap.cliente.controller.reactive;
+
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPatchDTO;
+import com.fiap.cliente.controller.json.CustomerRequestDTO;
+import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.infra.ReactiveConfig;
+import com.fiap.cliente.mapper.CursorMapper;
+import com.fiap.cliente.mapper.CustomerMapper;
+import com.fiap.cliente.mapper.ETagMapper;
+import com.fiap.cliente.usecase.RetrieveCustomersPageUseCase;
+import com.fiap.cliente.usecase.reactive.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/customers")
+@Profile(ReactiveConfig.PROFILE)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactiveCustomerController {
+
+    ReactiveCreateCustomerUseCase createCustomerUseCase;
+    ReactiveRetrieveCustomerByIdUseCase retrieveCustomerByIdUseCase;
+    ReactiveRetrieveCustomersPageUseCase retrieveCustomersPageUseCase;
+    ReactiveDeleteCustomerByIdUseCase deleteCustomerByIdUseCase;
+    ReactiveUpdateCustomerUseCase updateCustomerUseCase;
+    ReactivePatchCustomerUseCase patchCustomerUseCase;
+    ReactiveExportCustomersUseCase exportCustomersUseCase;
+    CustomerMapper customerMapper;
+    CursorMapper cursorMapper;
+    ETagMapper eTagMapper;
+
+    @Operation(summary = "Create a new customer", description = "Creates a new customer and returns the created customer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Customer created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    @PostMapping
+    public Mono<ResponseEntity<CustomerResponseDTO>> create(@RequestBody CustomerRequestDTO dto) {
+        return Mono.fromSupplier(() -> customerMapper.toDomain(dto))
+                .flatMap(createCustomerUseCase::execute)
+                .map(saved -> ResponseEntity.status(HttpStatus.CREATED.value()).body(customerMapper.toResponse(saved)));
+    }
+
+    @Operation(summary = "Get customer by ID", description = "Retrieves a customer by their unique identifier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer found"),
+            @ApiResponse(responseCode = "304", description = "Customer not modified since the given ETag"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CustomerResponseDTO>> getById(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of the representation already held by the client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return retrieveCustomerByIdUseCase.execute(id)
+                .map(customer -> toConditionalResponse(customer, ifNoneMatch));
+    }
+
+    @Operation(summary = "Get customers page", description = "Retrieves a page of customers ordered by ID using keyset pagination")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of customers retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping
+    public Mono<ResponseEntity<CustomerPageResponseDTO>> getAll(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of customers in the page (1-" + RetrieveCustomersPageUseCase.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "50") int limit,
+            @Parameter(description = "Whether to include an approximate total number of customers")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return Mono.defer(() -> retrieveCustomersPageUseCase.execute(cursorMapper.fromCursor(after), limit, includeTotal))
+                .map(page -> ResponseEntity.ok(customerMapper.toPageResponse(page)));
+    }
+
+    @Operation(summary = "Export all customers", description = "Streams every customer as newline-delimited JSON, honouring client backpressure")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customers streamed")
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CustomerResponseDTO> export() {
+        return exportCustomersUseCase.execute()
+                .map(customerMapper::toResponse);
+    }
+
+    @Operation(summary = "Delete a customer", description = "Deletes a customer by their unique identifier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Customer deleted"),
+            @ApiResponse(responseCode = "404", description = "Customer not found")
+    })
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteById(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id) {
+        return deleteCustomerByIdUseCase.execute(id)
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @Operation(summary = "Update a customer", description = "Updates an existing customer's information")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Customer updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "412", description = "Customer changed since the ETag given in If-Match")
+    })
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CustomerResponseDTO>> update(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag the customer must still have for the update to be applied")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody CustomerRequestDTO dto) {
+        Long expectedVersion = eTagMapper.fromIfMatch(ifMatch);
+        return Mono.fromSupplier(() -> customerMapper.toDomain(id, expectedVersion, dto))
+                .flatMap(customer -> updateCustomerUseCase.execute(customer)
+                        .map(version -> ResponseEntity.ok()
+                                .eTag(eTagMapper.toETag(version))
+                                .body(customerMapper.toResponse(customer))));
+    }
+
+    @Operation(summary = "Partially update a customer", description = "Updates only the fields present in the request; absent or null fields are left unchanged")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Customer updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Customer not found"),
+            @ApiResponse(responseCode = "409", description = "CPF already registered"),
+            @ApiResponse(responseCode = "412", description = "Customer changed since the ETag given in If-Match")
+    })
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Void>> patch(
+            @Parameter(description = "Customer ID", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "ETag the customer must still have for the update to be applied")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody CustomerPatchDTO dto) {
+        Long expectedVersion = eTagMapper.fromIfMatch(ifMatch);
+        return Mono.fromSupplier(() -> customerMapper.toPatch(dto))
+                .flatMap(patch -> patchCustomerUseCase.execute(id, expectedVersion, patch))
+                .map(version -> ResponseEntity.noContent().eTag(eTagMapper.toETag(version)).build());
+    }
+
+    private ResponseEntity<CustomerResponseDTO> toConditionalResponse(CustomerView customer, String ifNoneMatch) {
+        String eTag = eTagMapper.toETag(customer.getVersion());
+        if (eTagMapper.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(customerMapper.toResponse(customer));
+    }
+}
@@ -21,7 +21,7 @@ public class Address {
         this.zipCode = zipCode;
     }
 
-    private static void validateZipCode(String zipCode) {
+    static void validateZipCode(String zipCode) {
         if (zipCode == null || zipCode.length() < 5) {
             throw new InvalidZipCodeException(zipCode);
         }
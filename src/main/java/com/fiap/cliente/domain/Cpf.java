@@ -0,0 +1,102 @@
+package com.fiap.cliente.domain;
+
+import com.fiap.cliente.exception.InvalidCpfException;
+
+public final class Cpf {
+
+    public static final int LENGTH = 11;
+
+    private static final int FORMATTED_LENGTH = 14;
+    private static final int BASE_LENGTH = 9;
+
+    private Cpf() {
+    }
+
+    public static String normalize(String cpf) {
+        if (cpf != null && cpf.length() == LENGTH && hasValidDigits(cpf, false)) {
+            return cpf;
+        }
+        if (cpf != null && isFormatted(cpf) && hasValidDigits(cpf, true)) {
+            char[] digits = new char[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                digits[i] = cpf.charAt(position(i, true));
+            }
+            return new String(digits);
+        }
+        throw new InvalidCpfException(cpf);
+    }
+
+    public static boolean isValid(String cpf) {
+        if (cpf == null) {
+            return false;
+        }
+        return cpf.length() == LENGTH ? hasValidDigits(cpf, false) : isFormatted(cpf) && hasValidDigits(cpf, true);
+    }
+
+    /** Skips the check digits, so customers stored before that rule can still be looked up. */
+    public static long toNumber(String cpf) {
+        boolean formatted = cpf != null && isFormatted(cpf);
+        if (cpf == null || cpf.length() != LENGTH && !formatted) {
+            throw new InvalidCpfException(cpf);
+        }
+        long number = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            int digit = digit(cpf, i, formatted);
+            if (digit < 0) {
+                throw new InvalidCpfException(cpf);
+            }
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+
+    public static String fromNumber(long number) {
+        char[] digits = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return new String(digits);
+    }
+
+    private static boolean isFormatted(String cpf) {
+        return cpf.length() == FORMATTED_LENGTH
+                && cpf.charAt(3) == '.' && cpf.charAt(7) == '.' && cpf.charAt(11) == '-';
+    }
+
+    private static boolean hasValidDigits(String cpf, boolean formatted) {
+        int first = 0;
+        int second = 0;
+        boolean repeated = true;
+        int previous = digit(cpf, 0, formatted);
+        for (int i = 0; i < BASE_LENGTH; i++) {
+            int digit = digit(cpf, i, formatted);
+            if (digit < 0) {
+                return false;
+            }
+            repeated &= digit == previous;
+            previous = digit;
+            first += digit * (10 - i);
+            second += digit * (11 - i);
+        }
+        int firstCheck = checkDigit(first);
+        if (repeated || digit(cpf, BASE_LENGTH, formatted) != firstCheck) {
+            return false;
+        }
+        return digit(cpf, BASE_LENGTH + 1, formatted) == checkDigit(second + firstCheck * 2);
+    }
+
+    private static int digit(String cpf, int index, boolean formatted) {
+        char c = cpf.charAt(position(index, formatted));
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    private static int position(int index, boolean formatted) {
+        return formatted ? index + index / 3 : index;
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
@@ -1,6 +1,6 @@
 package com.fiap.cliente.domain;
 
-import com.fiap.cliente.exception.InvalidCpfException;
+import com.fiap.cliente.exception.MissingRequiredFieldException;
 import lombok.Getter;
 
 import java.time.LocalDate;
@@ -14,20 +14,21 @@ public class Customer {
     private String cpf;
     private LocalDate birthDate;
     private Address address;
+    private Long version;
 
-    public Customer(UUID id, String fullName, String cpf, LocalDate birthDate, Address address) {
-        validateCpf(cpf);
+    public Customer(UUID id, String fullName, String cpf, LocalDate birthDate, Address address, Long version) {
+        this.cpf = Cpf.normalize(cpf);
+        if (fullName == null || fullName.isBlank()) {
+            throw new MissingRequiredFieldException("fullName");
+        }
+        if (birthDate == null) {
+            throw new MissingRequiredFieldException("birthDate");
+        }
         this.id = id;
         this.fullName = fullName;
-        this.cpf = cpf;
         this.birthDate = birthDate;
         this.address = address;
-    }
-
-    private void validateCpf(String cpf) {
-        if (cpf == null || cpf.length() != 11) {
-            throw new InvalidCpfException(cpf);
-        }
+        this.version = version;
     }
 
 }
@@ -0,0 +1,38 @@
+package com.fiap.cliente.domain;
+
+import lombok.Getter;
+
+@Getter
+public class CustomerBatchItem {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    private Status status;
+    private String cpf;
+    private Customer customer;
+    private String message;
+
+    private CustomerBatchItem(Status status, String cpf, Customer customer, String message) {
+        this.status = status;
+        this.cpf = cpf;
+        this.customer = customer;
+        this.message = message;
+    }
+
+    public static CustomerBatchItem created(Customer customer) {
+        return new CustomerBatchItem(Status.CREATED, customer.getCpf(), customer, null);
+    }
+
+    public static CustomerBatchItem duplicate(String cpf) {
+        return new CustomerBatchItem(Status.DUPLICATE, cpf, null, "CPF already registered: " + cpf);
+    }
+
+    public static CustomerBatchItem invalid(String message) {
+        return new CustomerBatchItem(Status.INVALID, null, null, message);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.fiap.cliente.domain;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public enum CustomerField {
+    ID("id", CustomerView::getId),
+    FULL_NAME("fullName", CustomerView::getFullName),
+    CPF("cpf", CustomerView::getCpf),
+    BIRTH_DATE("birthDate", CustomerView::getBirthDate),
+    STREET("address.street", CustomerView::getStreet),
+    NUMBER("address.number", CustomerView::getNumber),
+    CITY("address.city", CustomerView::getCity),
+    STATE("address.state", CustomerView::getState),
+    ZIP_CODE("address.zipCode", CustomerView::getZipCode);
+
+    public static final String ADDRESS = "address";
+
+    private static final Set<CustomerField> ALL = Collections.unmodifiableSet(EnumSet.allOf(CustomerField.class));
+
+    @Getter
+    private final String path;
+    private final Function<CustomerView, Object> reader;
+
+    CustomerField(String path, Function<CustomerView, Object> reader) {
+        this.path = path;
+        this.reader = reader;
+    }
+
+    public static Set<CustomerField> all() {
+        return ALL;
+    }
+
+    public static Optional<CustomerField> fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(field -> field.path.equals(path))
+                .findFirst();
+    }
+
+    public boolean isAddress() {
+        return path.startsWith(ADDRESS + ".");
+    }
+
+    public String getProperty() {
+        return isAddress() ? path.substring(ADDRESS.length() + 1) : path;
+    }
+
+    public Object read(CustomerView view) {
+        return reader.apply(view);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.fiap.cliente.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+@Getter
+public class CustomerFilter {
+
+    private static final CustomerFilter NONE = new CustomerFilter(null, null, null, null);
+
+    private String state;
+    private String city;
+    private LocalDate bornAfter;
+    private LocalDate bornBefore;
+
+    public CustomerFilter(String state, String city, LocalDate bornAfter, LocalDate bornBefore) {
+        this.state = state;
+        this.city = city;
+        this.bornAfter = bornAfter;
+        this.bornBefore = bornBefore;
+    }
+
+    public static CustomerFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return Stream.of(state, city, bornAfter, bornBefore)
+                .allMatch(value -> value == null);
+    }
+
+}
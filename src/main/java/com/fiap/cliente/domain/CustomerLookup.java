@@ -0,0 +1,19 @@
+package com.fiap.cliente.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+public class CustomerLookup {
+
+    private List<CustomerView> customers;
+    private List<UUID> missing;
+
+    public CustomerLookup(List<CustomerView> customers, List<UUID> missing) {
+        this.customers = customers;
+        this.missing = missing;
+    }
+
+}
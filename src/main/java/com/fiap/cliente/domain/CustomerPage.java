@@ -0,0 +1,25 @@
+package com.fiap.cliente.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+public class CustomerPage {
+
+    private List<CustomerView> customers;
+    private UUID nextCursor;
+    private Long approximateTotal;
+
+    public CustomerPage(List<CustomerView> customers, UUID nextCursor, Long approximateTotal) {
+        this.customers = customers;
+        this.nextCursor = nextCursor;
+        this.approximateTotal = approximateTotal;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
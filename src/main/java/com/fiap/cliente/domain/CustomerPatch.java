@@ -0,0 +1,40 @@
+package com.fiap.cliente.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+@Getter
+public class CustomerPatch {
+
+    private String fullName;
+    private String cpf;
+    private LocalDate birthDate;
+    private String street;
+    private String number;
+    private String city;
+    private String state;
+    private String zipCode;
+
+    public CustomerPatch(String fullName, String cpf, LocalDate birthDate,
+                         String street, String number, String city, String state, String zipCode) {
+        if (zipCode != null) {
+            Address.validateZipCode(zipCode);
+        }
+        this.fullName = fullName;
+        this.cpf = cpf == null ? null : Cpf.normalize(cpf);
+        this.birthDate = birthDate;
+        this.street = street;
+        this.number = number;
+        this.city = city;
+        this.state = state;
+        this.zipCode = zipCode;
+    }
+
+    public boolean isEmpty() {
+        return Stream.of(fullName, cpf, birthDate, street, number, city, state, zipCode)
+                .allMatch(value -> value == null);
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.fiap.cliente.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+public class CustomerView {
+
+    private UUID id;
+    private String fullName;
+    private String cpf;
+    private LocalDate birthDate;
+    private String street;
+    private String number;
+    private String city;
+    private String state;
+    private String zipCode;
+    private Long version;
+
+    public CustomerView(UUID id, String fullName, String cpf, LocalDate birthDate, String street, String number,
+                        String city, String state, String zipCode, Long version) {
+        this.id = id;
+        this.fullName = fullName;
+        this.cpf = cpf;
+        this.birthDate = birthDate;
+        this.street = street;
+        this.number = number;
+        this.city = city;
+        this.state = state;
+        this.zipCode = zipCode;
+        this.version = version;
+    }
+
+    public boolean hasAddress() {
+        return street != null || number != null || city != null || state != null || zipCode != null;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.fiap.cliente.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TimeOrderedUuid {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long current = LAST.accumulateAndGet(now, (last, candidate) -> Math.max(last + 1, candidate));
+        long timestamp = current >>> COUNTER_BITS;
+        long counter = current & ((1L << COUNTER_BITS) - 1);
+        long mostSignificant = timestamp << 16 | VERSION | counter;
+        long leastSignificant = VARIANT | ThreadLocalRandom.current().nextLong() & RAND_B_MASK;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fiap.cliente.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(int size, int maxSize) {
+        super("Batch of " + size + " customers exceeds the limit of " + maxSize);
+    }
+}
@@ -1,6 +1,10 @@
 package com.fiap.cliente.exception;
 
 public class CpfAlreadyInRegisteredException extends RuntimeException {
+    public CpfAlreadyInRegisteredException() {
+        super("CPF already registered");
+    }
+
     public CpfAlreadyInRegisteredException(String cpf) {
         super("CPF already registered: " + cpf);
     }
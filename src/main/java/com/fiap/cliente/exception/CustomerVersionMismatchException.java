@@ -0,0 +1,9 @@
+package com.fiap.cliente.exception;
+
+import java.util.UUID;
+
+public class CustomerVersionMismatchException extends RuntimeException {
+    public CustomerVersionMismatchException(UUID customerId) {
+        super("Customer was modified by another request: " + customerId);
+    }
+}
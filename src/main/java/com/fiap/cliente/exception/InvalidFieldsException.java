@@ -0,0 +1,7 @@
+package com.fiap.cliente.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+    public InvalidFieldsException(String fields) {
+        super("Invalid fields: " + fields);
+    }
+}
@@ -0,0 +1,7 @@
+package com.fiap.cliente.exception;
+
+public class InvalidSearchTermException extends RuntimeException {
+    public InvalidSearchTermException(int minLength) {
+        super("Search term must have at least " + minLength + " characters");
+    }
+}
@@ -0,0 +1,7 @@
+package com.fiap.cliente.exception;
+
+public class LookupTooLargeException extends RuntimeException {
+    public LookupTooLargeException(int size, int maxSize) {
+        super("Lookup of " + size + " ids exceeds the limit of " + maxSize);
+    }
+}
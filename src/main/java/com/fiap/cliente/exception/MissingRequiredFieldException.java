@@ -0,0 +1,7 @@
+package com.fiap.cliente.exception;
+
+public class MissingRequiredFieldException extends RuntimeException {
+    public MissingRequiredFieldException(String field) {
+        super("Missing required field: " + field);
+    }
+}
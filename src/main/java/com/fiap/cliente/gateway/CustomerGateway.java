@@ -1,16 +1,35 @@
 package com.fiap.cliente.gateway;
 
 import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface CustomerGateway {
-    Customer save(Customer customer);
-    Optional<Customer> findByCpf(String cpf);
+    Customer create(Customer customer);
+    boolean update(Customer customer);
+    boolean patch(UUID customerId, Long expectedVersion, CustomerPatch patch);
+    List<Customer> saveAll(List<Customer> customers);
+    Set<String> findRegisteredCpfs(Collection<String> cpfs);
     Optional<Customer> findById(UUID customerId);
-    List<Customer> findAll();
+    boolean existsById(UUID customerId);
+    Optional<Long> findVersionById(UUID customerId);
+    Optional<CustomerView> findViewById(UUID customerId);
+    Optional<CustomerView> findViewById(UUID customerId, Set<CustomerField> fields);
+    List<CustomerView> findAllById(Collection<UUID> customerIds);
+    List<CustomerView> findPage(CustomerFilter filter, UUID after, int limit, Set<CustomerField> fields);
+    List<CustomerView> searchByName(String name, int limit);
+    long approximateCount();
+    long count(CustomerFilter filter);
+    Stream<CustomerView> streamAll();
 
-    void delete(Customer customer);
+    boolean deleteById(UUID customerId);
 }
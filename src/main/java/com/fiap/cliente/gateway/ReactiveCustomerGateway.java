@@ -0,0 +1,22 @@
+package com.fiap.cliente.gateway;
+
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ReactiveCustomerGateway {
+    Mono<Customer> create(Customer customer);
+    Mono<Long> update(Customer customer);
+    Mono<Long> patch(UUID customerId, Long expectedVersion, CustomerPatch patch);
+    Mono<Boolean> existsById(UUID customerId);
+    Mono<Long> findVersionById(UUID customerId);
+    Mono<CustomerView> findViewById(UUID customerId);
+    Flux<CustomerView> findPage(UUID after, int limit);
+    Mono<Long> approximateCount();
+    Flux<CustomerView> streamAll();
+    Mono<Boolean> deleteById(UUID customerId);
+}
@@ -2,37 +2,110 @@ package com.fiap.cliente.gateway.database.jpa;
 
 
 import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
 import com.fiap.cliente.gateway.CustomerGateway;
 import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
 import com.fiap.cliente.gateway.database.jpa.repository.CustomerRepository;
+import com.fiap.cliente.gateway.database.jpa.repository.CustomerSpecifications;
+import com.fiap.cliente.infra.CacheConfig;
 import com.fiap.cliente.mapper.CustomerMapper;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class CustomerJpaGateway implements CustomerGateway {
 
+    private static final int CPF_LOOKUP_CHUNK_SIZE = 1000;
+    private static final int ID_LOOKUP_CHUNK_SIZE = 1000;
+
     CustomerRepository customerRepository;
     CustomerMapper customerMapper;
 
     @Override
-    public Customer save(Customer customer) {
+    public Customer create(Customer customer) {
         CustomerEntity entity = customerMapper.toEntity(customer);
-        return customerMapper.toDomain(customerRepository.save(entity));
+        try {
+            return customerMapper.toDomain(customerRepository.saveAndFlush(entity));
+        } catch (DataIntegrityViolationException ex) {
+            throw translateCpfViolation(ex, customer.getCpf());
+        }
     }
 
     @Override
-    public Optional<Customer> findByCpf(String cpf) {
-        return customerRepository.findByCpf(cpf)
-                .map(customerMapper::toDomain);
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#customer.id")
+    public boolean update(Customer customer) {
+        try {
+            return customerRepository.updateCustomer(customerMapper.toEntity(customer)) > 0;
+        } catch (DataIntegrityViolationException ex) {
+            throw translateCpfViolation(ex, customer.getCpf());
+        }
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#customerId")
+    public boolean patch(UUID customerId, Long expectedVersion, CustomerPatch patch) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        putIfPresent(attributes, "fullName", patch.getFullName());
+        putIfPresent(attributes, "cpf", patch.getCpf());
+        putIfPresent(attributes, "birthDate", patch.getBirthDate());
+        putIfPresent(attributes, "address.street", patch.getStreet());
+        putIfPresent(attributes, "address.number", patch.getNumber());
+        putIfPresent(attributes, "address.city", patch.getCity());
+        putIfPresent(attributes, "address.state", patch.getState());
+        putIfPresent(attributes, "address.zipCode", patch.getZipCode());
+        try {
+            return customerRepository.updateAttributes(customerId, expectedVersion, attributes) > 0;
+        } catch (DataIntegrityViolationException ex) {
+            throw translateCpfViolation(ex, patch.getCpf());
+        }
+    }
+
+    @Override
+    public List<Customer> saveAll(List<Customer> customers) {
+        List<CustomerEntity> entities = customers.stream()
+                .map(customerMapper::toEntity)
+                .toList();
+        try {
+            return customerRepository.persistAll(entities).stream()
+                    .map(customerMapper::toDomain)
+                    .toList();
+        } catch (DataIntegrityViolationException ex) {
+            throw translateCpfViolation(ex, null);
+        }
+    }
+
+    @Override
+    public Set<String> findRegisteredCpfs(Collection<String> cpfs) {
+        List<String> distinct = cpfs.stream().distinct().toList();
+        Set<String> registered = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += CPF_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + CPF_LOOKUP_CHUNK_SIZE, distinct.size());
+            registered.addAll(customerRepository.findCpfsIn(distinct.subList(from, to)));
+        }
+        return registered;
     }
 
     @Override
@@ -42,14 +115,83 @@ public class CustomerJpaGateway implements CustomerGateway {
     }
 
     @Override
-    public List<Customer> findAll() {
-        return customerRepository.findAll()
-                .stream().map(customerMapper::toDomain)
+    public boolean existsById(UUID customerId) {
+        return customerRepository.existsById(customerId);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID customerId) {
+        return customerRepository.findVersionById(customerId);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#customerId", sync = true)
+    public Optional<CustomerView> findViewById(UUID customerId) {
+        return customerRepository.findViewById(customerId);
+    }
+
+    @Override
+    public Optional<CustomerView> findViewById(UUID customerId, Set<CustomerField> fields) {
+        return customerRepository.findViews(CustomerSpecifications.idEquals(customerId), fields, 1).stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<CustomerView> findAllById(Collection<UUID> customerIds) {
+        List<UUID> ids = List.copyOf(customerIds);
+        List<CustomerView> customers = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + ID_LOOKUP_CHUNK_SIZE, ids.size()));
+            customers.addAll(customerRepository.findViews(CustomerSpecifications.idIn(chunk), CustomerField.all(), chunk.size()));
+        }
+        return customers;
+    }
+
+    @Override
+    public List<CustomerView> findPage(CustomerFilter filter, UUID after, int limit, Set<CustomerField> fields) {
+        return customerRepository.findViews(CustomerSpecifications.matching(filter, after), fields, limit);
+    }
+
+    @Override
+    public List<CustomerView> searchByName(String name, int limit) {
+        return customerRepository.searchByName(name, limit).stream()
+                .map(customerMapper::toView)
                 .toList();
     }
 
     @Override
-    public void delete(Customer customer) {
-        customerRepository.delete(customerMapper.toEntity(customer));
+    public long approximateCount() {
+        return customerRepository.estimateCount();
+    }
+
+    @Override
+    public long count(CustomerFilter filter) {
+        return customerRepository.count(CustomerSpecifications.matching(filter));
+    }
+
+    @Override
+    public Stream<CustomerView> streamAll() {
+        return customerRepository.streamAll();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_CACHE, key = "#customerId")
+    public boolean deleteById(UUID customerId) {
+        return customerRepository.deleteCustomerById(customerId) > 0;
+    }
+
+    private static void putIfPresent(Map<String, Object> attributes, String attribute, Object value) {
+        if (value != null) {
+            attributes.put(attribute, value);
+        }
+    }
+
+    private RuntimeException translateCpfViolation(DataIntegrityViolationException ex, String cpf) {
+        if (ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(CustomerEntity.CPF_UNIQUE_CONSTRAINT)) {
+            return cpf == null ? new CpfAlreadyInRegisteredException() : new CpfAlreadyInRegisteredException(cpf);
+        }
+        return ex;
     }
 }
@@ -0,0 +1,19 @@
+package com.fiap.cliente.gateway.database.jpa.entity;
+
+import com.fiap.cliente.domain.Cpf;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class CpfConverter implements AttributeConverter<String, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(String cpf) {
+        return cpf == null ? null : Cpf.toNumber(cpf);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Long number) {
+        return number == null ? null : Cpf.fromNumber(number);
+    }
+}
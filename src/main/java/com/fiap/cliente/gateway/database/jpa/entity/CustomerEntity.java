@@ -11,17 +11,20 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "customers", uniqueConstraints = @UniqueConstraint(columnNames = "cpf"))
+@Table(name = "customers", uniqueConstraints = @UniqueConstraint(name = CustomerEntity.CPF_UNIQUE_CONSTRAINT, columnNames = "cpf"))
 public class CustomerEntity {
 
+    public static final String CPF_UNIQUE_CONSTRAINT = "uk_customer_cpf";
+
     @Id
-    @GeneratedValue
+    @UuidV7
     private UUID id;
 
     @Column(name = "full_name", nullable = false)
     private String fullName;
 
-    @Column(name = "cpf", nullable = false, unique = true, length = 11)
+    @Convert(converter = CpfConverter.class)
+    @Column(name = "cpf", nullable = false)
     private String cpf;
 
     @Column(name = "birth_date", nullable = false)
@@ -30,4 +33,8 @@ public class CustomerEntity {
     @Embedded
     private AddressEmbeddable address;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
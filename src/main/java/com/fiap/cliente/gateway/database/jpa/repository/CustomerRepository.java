@@ -1,13 +1,54 @@
 package com.fiap.cliente.gateway.database.jpa.repository;
 
+import com.fiap.cliente.domain.CustomerView;
 import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<CustomerEntity, UUID> {
+public interface CustomerRepository extends JpaRepository<CustomerEntity, UUID>, JpaSpecificationExecutor<CustomerEntity>,
+        CustomerRepositoryCustom {
     Optional<CustomerEntity> findByCpf(String cpf);
+
+    @Query("select " + CustomerRepositoryCustom.VIEW_CONSTRUCTOR + " from CustomerEntity c where c.id = :id")
+    Optional<CustomerView> findViewById(@Param("id") UUID id);
+
+    @Query("select c.version from CustomerEntity c where c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @Query("select c.cpf from CustomerEntity c where c.cpf in :cpfs")
+    List<String> findCpfsIn(@Param("cpfs") Collection<String> cpfs);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update CustomerEntity c
+            set c.fullName = :#{#customer.fullName},
+                c.cpf = :#{#customer.cpf},
+                c.birthDate = :#{#customer.birthDate},
+                c.address.street = :#{#customer.address?.street},
+                c.address.number = :#{#customer.address?.number},
+                c.address.city = :#{#customer.address?.city},
+                c.address.state = :#{#customer.address?.state},
+                c.address.zipCode = :#{#customer.address?.zipCode},
+                c.version = c.version + 1
+            where c.id = :#{#customer.id}
+              and (:#{#customer.version} is null or c.version = :#{#customer.version})
+            """)
+    int updateCustomer(@Param("customer") CustomerEntity customer);
+
+    @Transactional
+    @Modifying
+    @Query("delete from CustomerEntity c where c.id = :id")
+    int deleteCustomerById(@Param("id") UUID id);
 }
@@ -0,0 +1,29 @@
+package com.fiap.cliente.gateway.database.jpa.repository;
+
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface CustomerRepositoryCustom {
+    String VIEW_CONSTRUCTOR = "new com.fiap.cliente.domain.CustomerView(c.id, c.fullName, c.cpf, c.birthDate, "
+            + "c.address.street, c.address.number, c.address.city, c.address.state, c.address.zipCode, c.version)";
+
+    List<CustomerView> findViews(Specification<CustomerEntity> specification, Set<CustomerField> fields, int limit);
+
+    long estimateCount();
+
+    List<CustomerEntity> searchByName(String name, int limit);
+
+    Stream<CustomerView> streamAll();
+
+    List<CustomerEntity> persistAll(List<CustomerEntity> entities);
+
+    int updateAttributes(UUID id, Long expectedVersion, Map<String, Object> attributes);
+}
@@ -0,0 +1,175 @@
+package com.fiap.cliente.gateway.database.jpa.repository;
+
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    private static final String POSTGRES_ESTIMATE_SQL =
+            "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('customers' AS regclass)";
+
+    private static final String POSTGRES_NAME_SEARCH_SQL = """
+            SELECT c.* FROM customers c
+            WHERE lower(c.full_name) LIKE :prefix OR lower(c.full_name) % :term
+            ORDER BY lower(c.full_name) LIKE :prefix DESC, similarity(lower(c.full_name), :term) DESC, c.full_name, c.id
+            LIMIT :limit
+            """;
+
+    private static final String H2_NAME_SEARCH_SQL = """
+            SELECT c.* FROM customers c
+            WHERE c.full_name_lower LIKE :prefix
+            ORDER BY c.full_name_lower, c.id
+            LIMIT :limit
+            """;
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final int DEFAULT_FLUSH_INTERVAL = 500;
+
+    EntityManager entityManager;
+
+    @Override
+    public long estimateCount() {
+        if (isPostgres()) {
+            long estimate = ((Number) entityManager.createNativeQuery(POSTGRES_ESTIMATE_SQL).getSingleResult()).longValue();
+            if (estimate >= 0) {
+                return estimate;
+            }
+        }
+        return entityManager.createQuery("select count(c) from CustomerEntity c", Long.class)
+                .getSingleResult();
+    }
+
+    @Override
+    public List<CustomerView> findViews(Specification<CustomerEntity> specification, Set<CustomerField> fields, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CustomerView> query = criteriaBuilder.createQuery(CustomerView.class);
+        Root<CustomerEntity> root = query.from(CustomerEntity.class);
+        List<Selection<?>> selections = new ArrayList<>(CustomerField.all().size() + 1);
+        for (CustomerField field : CustomerField.all()) {
+            Path<?> path = path(root, field.getPath());
+            selections.add(field == CustomerField.ID || fields.contains(field)
+                    ? path
+                    : criteriaBuilder.nullLiteral(path.getJavaType()));
+        }
+        selections.add(root.get("version"));
+        query.select(criteriaBuilder.construct(CustomerView.class, selections.toArray(Selection[]::new)));
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(criteriaBuilder.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CustomerEntity> searchByName(String name, int limit) {
+        String term = name.toLowerCase(Locale.ROOT);
+        String prefix = escapeLike(term) + "%";
+        if (isPostgres()) {
+            return entityManager.createNativeQuery(POSTGRES_NAME_SEARCH_SQL, CustomerEntity.class)
+                    .setParameter("prefix", prefix)
+                    .setParameter("term", term)
+                    .setParameter("limit", limit)
+                    .getResultList();
+        }
+        return entityManager.createNativeQuery(H2_NAME_SEARCH_SQL, CustomerEntity.class)
+                .setParameter("prefix", prefix)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    /** Must be consumed and closed inside a transaction. */
+    @Override
+    public Stream<CustomerView> streamAll() {
+        return entityManager.createQuery("select " + VIEW_CONSTRUCTOR + " from CustomerEntity c", CustomerView.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    @Transactional
+    public List<CustomerEntity> persistAll(List<CustomerEntity> entities) {
+        int flushInterval = flushInterval();
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % flushInterval == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return entities;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public int updateAttributes(UUID id, Long expectedVersion, Map<String, Object> attributes) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<CustomerEntity> update = criteriaBuilder.createCriteriaUpdate(CustomerEntity.class);
+        Root<CustomerEntity> root = update.from(CustomerEntity.class);
+        attributes.forEach((attribute, value) -> update.set((Path<Object>) path(root, attribute), value));
+        Path<Long> version = root.get("version");
+        update.set(version, criteriaBuilder.sum(version, 1L));
+        update.where(expectedVersion == null
+                ? criteriaBuilder.equal(root.get("id"), id)
+                : criteriaBuilder.and(criteriaBuilder.equal(root.get("id"), id), criteriaBuilder.equal(version, expectedVersion)));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private static Path<?> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String segment : attribute.split("\\.")) {
+            path = path.get(segment);
+        }
+        return path;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private int flushInterval() {
+        int batchSize = sessionFactory().getSessionFactoryOptions().getJdbcBatchSize();
+        return batchSize > 1 ? batchSize : DEFAULT_FLUSH_INTERVAL;
+    }
+
+    private boolean isPostgres() {
+        return sessionFactory().getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.fiap.cliente.gateway.database.jpa.repository;
+
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+public final class CustomerSpecifications {
+
+    private CustomerSpecifications() {
+    }
+
+    public static Specification<CustomerEntity> matching(CustomerFilter filter, UUID after) {
+        return Specification.allOf(
+                idGreaterThan(after),
+                stateEquals(filter.getState()),
+                cityEquals(filter.getCity()),
+                bornOnOrAfter(filter.getBornAfter()),
+                bornOnOrBefore(filter.getBornBefore()));
+    }
+
+    public static Specification<CustomerEntity> matching(CustomerFilter filter) {
+        return matching(filter, null);
+    }
+
+    public static Specification<CustomerEntity> idEquals(UUID id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<CustomerEntity> idIn(Collection<UUID> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    static Specification<CustomerEntity> idGreaterThan(UUID after) {
+        return after == null ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), after);
+    }
+
+    static Specification<CustomerEntity> stateEquals(String state) {
+        return state == null ? null : (root, query, cb) -> cb.equal(root.get("address").get("state"), state);
+    }
+
+    static Specification<CustomerEntity> cityEquals(String city) {
+        return city == null ? null : (root, query, cb) -> cb.equal(root.get("address").get("city"), city);
+    }
+
+    static Specification<CustomerEntity> bornOnOrAfter(LocalDate date) {
+        return date == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("birthDate"), date);
+    }
+
+    static Specification<CustomerEntity> bornOnOrBefore(LocalDate date) {
+        return date == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("birthDate"), date);
+    }
+}
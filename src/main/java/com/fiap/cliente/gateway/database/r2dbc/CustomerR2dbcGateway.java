@@ -0,0 +1,230 @@
+package com.fiap.cliente.gateway.database.r2dbc;
+
+import com.fiap.cliente.domain.Address;
+import com.fiap.cliente.domain.Cpf;
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.domain.TimeOrderedUuid;
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
+import com.fiap.cliente.infra.ReactiveConfig;
+import io.r2dbc.spi.Readable;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+@Profile(ReactiveConfig.PROFILE)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CustomerR2dbcGateway implements ReactiveCustomerGateway {
+
+    private static final String COLUMNS = "id, full_name, cpf, birth_date, street, number, city, state, zip_code, version";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO customers (id, full_name, cpf, birth_date, street, number, city, state, zip_code, version)
+            VALUES (:id, :full_name, :cpf, :birth_date, :street, :number, :city, :state, :zip_code, 0)""";
+
+    private static final String UPDATE_SQL = """
+            UPDATE customers
+            SET full_name = :full_name, cpf = :cpf, birth_date = :birth_date,
+                street = :street, number = :number, city = :city, state = :state, zip_code = :zip_code,
+                version = version + 1
+            WHERE id = :id""";
+
+    private static final String POSTGRES_ESTIMATE_SQL =
+            "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('customers' AS regclass)";
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Customer> create(Customer customer) {
+        UUID id = customer.getId() != null ? customer.getId() : TimeOrderedUuid.next();
+        return bindCustomer(databaseClient.sql(INSERT_SQL), customer)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(new Customer(id, customer.getFullName(), customer.getCpf(), customer.getBirthDate(),
+                        customer.getAddress(), 0L))
+                .onErrorMap(DataIntegrityViolationException.class, ex -> translateCpfViolation(ex, customer.getCpf()));
+    }
+
+    @Override
+    public Mono<Long> update(Customer customer) {
+        String sql = returningVersion(customer.getVersion() == null ? UPDATE_SQL : UPDATE_SQL + " AND version = :version");
+        DatabaseClient.GenericExecuteSpec spec = bindCustomer(databaseClient.sql(sql), customer)
+                .bind("id", customer.getId());
+        if (customer.getVersion() != null) {
+            spec = spec.bind("version", customer.getVersion());
+        }
+        return spec.map(row -> row.get("version", Long.class))
+                .one()
+                .onErrorMap(DataIntegrityViolationException.class, ex -> translateCpfViolation(ex, customer.getCpf()));
+    }
+
+    @Override
+    public Mono<Long> patch(UUID customerId, Long expectedVersion, CustomerPatch patch) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfPresent(columns, "full_name", patch.getFullName());
+        putIfPresent(columns, "cpf", patch.getCpf() == null ? null : Cpf.toNumber(patch.getCpf()));
+        putIfPresent(columns, "birth_date", patch.getBirthDate());
+        putIfPresent(columns, "street", patch.getStreet());
+        putIfPresent(columns, "number", patch.getNumber());
+        putIfPresent(columns, "city", patch.getCity());
+        putIfPresent(columns, "state", patch.getState());
+        putIfPresent(columns, "zip_code", patch.getZipCode());
+        String assignments = columns.keySet().stream()
+                .map(column -> column + " = :" + column + ", ")
+                .collect(Collectors.joining());
+        String sql = "UPDATE customers SET " + assignments + "version = version + 1 WHERE id = :id"
+                + (expectedVersion == null ? "" : " AND version = :version");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(returningVersion(sql))
+                .bind("id", customerId);
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            spec = spec.bind(column.getKey(), column.getValue());
+        }
+        return spec.map(row -> row.get("version", Long.class))
+                .one()
+                .onErrorMap(DataIntegrityViolationException.class, ex -> translateCpfViolation(ex, patch.getCpf()));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(UUID customerId) {
+        return databaseClient.sql("SELECT 1 FROM customers WHERE id = :id")
+                .bind("id", customerId)
+                .fetch()
+                .first()
+                .hasElement();
+    }
+
+    @Override
+    public Mono<Long> findVersionById(UUID customerId) {
+        return databaseClient.sql("SELECT version FROM customers WHERE id = :id")
+                .bind("id", customerId)
+                .map(row -> row.get("version", Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<CustomerView> findViewById(UUID customerId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM customers WHERE id = :id")
+                .bind("id", customerId)
+                .map(CustomerR2dbcGateway::toView)
+                .one();
+    }
+
+    @Override
+    public Flux<CustomerView> findPage(UUID after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = after == null
+                ? databaseClient.sql("SELECT " + COLUMNS + " FROM customers ORDER BY id LIMIT :limit")
+                : databaseClient.sql("SELECT " + COLUMNS + " FROM customers WHERE id > :after ORDER BY id LIMIT :limit")
+                        .bind("after", after);
+        return spec.bind("limit", limit)
+                .map(CustomerR2dbcGateway::toView)
+                .all();
+    }
+
+    @Override
+    public Mono<Long> approximateCount() {
+        Mono<Long> exactCount = databaseClient.sql("SELECT COUNT(*) FROM customers")
+                .map(row -> row.get(0, Long.class))
+                .one();
+        if (!isPostgres()) {
+            return exactCount;
+        }
+        return databaseClient.sql(POSTGRES_ESTIMATE_SQL)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .filter(estimate -> estimate >= 0)
+                .switchIfEmpty(exactCount);
+    }
+
+    @Override
+    public Flux<CustomerView> streamAll() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM customers")
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(CustomerR2dbcGateway::toView)
+                .all();
+    }
+
+    @Override
+    public Mono<Boolean> deleteById(UUID customerId) {
+        return databaseClient.sql("DELETE FROM customers WHERE id = :id")
+                .bind("id", customerId)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindCustomer(DatabaseClient.GenericExecuteSpec spec, Customer customer) {
+        Address address = customer.getAddress();
+        spec = spec.bind("full_name", customer.getFullName())
+                .bind("cpf", Cpf.toNumber(customer.getCpf()))
+                .bind("birth_date", customer.getBirthDate());
+        spec = bindNullable(spec, "street", address == null ? null : address.getStreet());
+        spec = bindNullable(spec, "number", address == null ? null : address.getNumber());
+        spec = bindNullable(spec, "city", address == null ? null : address.getCity());
+        spec = bindNullable(spec, "state", address == null ? null : address.getState());
+        return bindNullable(spec, "zip_code", address == null ? null : address.getZipCode());
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name, String value) {
+        return value == null ? spec.bindNull(name, String.class) : spec.bind(name, value);
+    }
+
+    private static void putIfPresent(Map<String, Object> columns, String column, Object value) {
+        if (value != null) {
+            columns.put(column, value);
+        }
+    }
+
+    private static CustomerView toView(Readable row) {
+        return new CustomerView(
+                row.get("id", UUID.class),
+                row.get("full_name", String.class),
+                Cpf.fromNumber(row.get("cpf", Long.class)),
+                row.get("birth_date", LocalDate.class),
+                row.get("street", String.class),
+                row.get("number", String.class),
+                row.get("city", String.class),
+                row.get("state", String.class),
+                row.get("zip_code", String.class),
+                row.get("version", Long.class));
+    }
+
+    private String returningVersion(String updateSql) {
+        return isPostgres() ? updateSql + " RETURNING version" : "SELECT version FROM FINAL TABLE (" + updateSql + ")";
+    }
+
+    private boolean isPostgres() {
+        return "PostgreSQL".equalsIgnoreCase(databaseClient.getConnectionFactory().getMetadata().getName());
+    }
+
+    private RuntimeException translateCpfViolation(DataIntegrityViolationException ex, String cpf) {
+        String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        if (message != null && message.toLowerCase().contains(CustomerEntity.CPF_UNIQUE_CONSTRAINT)) {
+            return new CpfAlreadyInRegisteredException(cpf);
+        }
+        return ex;
+    }
+}
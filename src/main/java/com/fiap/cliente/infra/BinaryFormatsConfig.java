@@ -0,0 +1,72 @@
+package com.fiap.cliente.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerRequestDTO;
+import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Configuration
+@Profile("!" + ReactiveConfig.PROFILE)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final String APPLICATION_PROTOBUF_VALUE = "application/x-protobuf";
+
+    ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        NativeProtobufSchema schema;
+        try (InputStream proto = new ClassPathResource("proto/customer.proto").getInputStream()) {
+            schema = ProtobufSchemaLoader.std.loadNative(proto, true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        ObjectMapper protobufMapper = objectMapperBuilder.getObject()
+                .factory(new ProtobufFactory())
+                .serializerByType(UUID.class, ToStringSerializer.instance)
+                .build();
+        converters.add(new JacksonProtobufHttpMessageConverter(protobufMapper, schema, Map.of(
+                CustomerRequestDTO.class, "CustomerRequest",
+                CustomerResponseDTO.class, "CustomerResponse",
+                CustomerPageResponseDTO.class, "CustomerPage")));
+    }
+}
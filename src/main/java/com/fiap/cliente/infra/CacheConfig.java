@@ -0,0 +1,35 @@
+package com.fiap.cliente.infra;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CUSTOMERS_CACHE = "customers";
+    public static final String CUSTOMER_JSON_CACHE = "customer-json";
+
+    // Async loads block on JDBC, so they run on their own threads instead of ForkJoinPool.commonPool().
+    private final ExecutorService cacheLoaderExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.cache.caffeine.spec}") String cacheSpecification,
+                                     @Value("${customer.cache.json-spec}") String jsonCacheSpecification) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CUSTOMERS_CACHE);
+        cacheManager.setCaffeine(Caffeine.from(cacheSpecification).executor(cacheLoaderExecutor));
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.registerCustomCache(CUSTOMER_JSON_CACHE,
+                Caffeine.from(jsonCacheSpecification).executor(cacheLoaderExecutor).buildAsync());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -1,11 +1,23 @@
 package com.fiap.cliente.infra;
 
+import com.fiap.cliente.exception.BatchTooLargeException;
 import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
 import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
 import com.fiap.cliente.exception.InvalidCpfException;
+import com.fiap.cliente.exception.InvalidCursorException;
+import com.fiap.cliente.exception.InvalidFieldsException;
+import com.fiap.cliente.exception.InvalidSearchTermException;
 import com.fiap.cliente.exception.InvalidZipCodeException;
+import com.fiap.cliente.exception.LookupTooLargeException;
+import com.fiap.cliente.exception.MissingRequiredFieldException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,18 +27,27 @@ import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class GlobalExceptionHandler {
 
+    public static final String EXCEPTIONS_COUNTER = "customer.exceptions";
+
+    MeterRegistry meterRegistry;
+
     @ExceptionHandler(CustomerNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleCustomerNotFoundException(CustomerNotFoundException ex) {
+        count(ex);
         return new ResponseEntity<>(
                 new ErrorResponse(HttpStatus.NOT_FOUND.getReasonPhrase(), ex.getMessage()),
                 HttpStatus.NOT_FOUND
         );
     }
 
-    @ExceptionHandler({InvalidCpfException.class, InvalidZipCodeException.class})
+    @ExceptionHandler({InvalidCpfException.class, InvalidZipCodeException.class, InvalidCursorException.class,
+            InvalidSearchTermException.class, InvalidFieldsException.class, MissingRequiredFieldException.class})
     public ResponseEntity<ErrorResponse> handleInvalidException(Exception ex) {
+        count(ex);
         return new ResponseEntity<>(
                 new ErrorResponse(HttpStatus.BAD_REQUEST.getReasonPhrase(), ex.getMessage()),
                 HttpStatus.BAD_REQUEST
@@ -35,14 +56,52 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(CpfAlreadyInRegisteredException.class)
     public ResponseEntity<ErrorResponse> handleCpfAlreadyInRegisteredException(CpfAlreadyInRegisteredException ex) {
+        count(ex);
         return new ResponseEntity<>(
                 new ErrorResponse(HttpStatus.CONFLICT.getReasonPhrase(), ex.getMessage()),
                 HttpStatus.CONFLICT
         );
     }
 
+    @ExceptionHandler(CustomerVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleCustomerVersionMismatchException(CustomerVersionMismatchException ex) {
+        count(ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.PRECONDITION_FAILED.getReasonPhrase(), ex.getMessage()),
+                HttpStatus.PRECONDITION_FAILED
+        );
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLargeException(BatchTooLargeException ex) {
+        count(ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE.getReasonPhrase(), ex.getMessage()),
+                HttpStatus.PAYLOAD_TOO_LARGE
+        );
+    }
+
+    @ExceptionHandler(LookupTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleLookupTooLargeException(LookupTooLargeException ex) {
+        count(ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE.getReasonPhrase(), ex.getMessage()),
+                HttpStatus.PAYLOAD_TOO_LARGE
+        );
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        count(ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(), ex.getMessage()),
+                HttpStatus.SERVICE_UNAVAILABLE
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        count(ex);
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -54,12 +113,17 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        count(ex);
         return new ResponseEntity<>(
                 new ErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(), ex.getMessage()),
                 HttpStatus.INTERNAL_SERVER_ERROR
         );
     }
 
+    private void count(Exception ex) {
+        meterRegistry.counter(EXCEPTIONS_COUNTER, "exception", ex.getClass().getSimpleName()).increment();
+    }
+
     public record ErrorResponse(String reason, String message) {
     }
 }
\ No newline at end of file
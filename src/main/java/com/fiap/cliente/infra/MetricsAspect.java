@@ -0,0 +1,110 @@
+package com.fiap.cliente.infra;
+
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class MetricsAspect {
+
+    public static final String USE_CASE_TIMER = "customer.usecase";
+    public static final String GATEWAY_TIMER = "customer.gateway";
+
+    static final String OUTCOME_OK = "ok";
+    static final String OUTCOME_NOT_FOUND = "not_found";
+    static final String OUTCOME_NO_MATCH = "no_match";
+    static final String OUTCOME_CONFLICT = "conflict";
+    static final String OUTCOME_ERROR = "error";
+
+    MeterRegistry meterRegistry;
+
+    @Around("execution(* com.fiap.cliente.usecase..*UseCase.execute(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, USE_CASE_TIMER, Tags.of("usecase", targetName(joinPoint)), false);
+    }
+
+    @Around("execution(* com.fiap.cliente.gateway.CustomerGateway.*(..))"
+            + " || execution(* com.fiap.cliente.gateway.ReactiveCustomerGateway.*(..))")
+    public Object timeGateway(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags tags = Tags.of("gateway", targetName(joinPoint), "method", joinPoint.getSignature().getName());
+        return time(joinPoint, GATEWAY_TIMER, tags, true);
+    }
+
+    /** Gateways cannot tell a missing row from a stale version, so their empty results are {@code no_match}. */
+    private Object time(ProceedingJoinPoint joinPoint, String name, Tags tags, boolean inspectResult) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable ex) {
+            stop(sample, name, tags, outcome(ex));
+            throw ex;
+        }
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return mono
+                        .doOnSuccess(value -> stop(subscribed, name, tags, inspectResult ? outcome(value) : OUTCOME_OK))
+                        .doOnError(ex -> stop(subscribed, name, tags, outcome(ex)));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return flux
+                        .doOnComplete(() -> stop(subscribed, name, tags, OUTCOME_OK))
+                        .doOnError(ex -> stop(subscribed, name, tags, outcome(ex)));
+            });
+        }
+        if (result instanceof Stream<?> stream) {
+            return stream.onClose(() -> stop(sample, name, tags, OUTCOME_OK));
+        }
+        stop(sample, name, tags, inspectResult ? outcome(result) : OUTCOME_OK);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, String name, Tags tags, String outcome) {
+        sample.stop(meterRegistry.timer(name, tags.and("outcome", outcome)));
+    }
+
+    private static String outcome(Object result) {
+        if (result == null || Boolean.FALSE.equals(result)
+                || (result instanceof Optional<?> optional && optional.isEmpty())) {
+            return OUTCOME_NO_MATCH;
+        }
+        return OUTCOME_OK;
+    }
+
+    private static String outcome(Throwable ex) {
+        if (ex instanceof CustomerNotFoundException) {
+            return OUTCOME_NOT_FOUND;
+        }
+        if (ex instanceof CpfAlreadyInRegisteredException || ex instanceof CustomerVersionMismatchException) {
+            return OUTCOME_CONFLICT;
+        }
+        return OUTCOME_ERROR;
+    }
+
+    private static String targetName(ProceedingJoinPoint joinPoint) {
+        return AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+    }
+}
@@ -0,0 +1,44 @@
+package com.fiap.cliente.mapper;
+
+import com.fiap.cliente.exception.InvalidCursorException;
+import org.mapstruct.Named;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+@Component
+public class CursorMapper {
+
+    private static final int UUID_BYTES = 16;
+
+    @Named("toCursor")
+    public String toCursor(UUID id) {
+        if (id == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(UUID_BYTES)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public UUID fromCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+        if (bytes.length != UUID_BYTES) {
+            throw new InvalidCursorException(cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.fiap.cliente.mapper;
+
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.exception.InvalidFieldsException;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+public class CustomerFieldsMapper {
+
+    public Set<CustomerField> fromFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new InvalidFieldsException(fields);
+        }
+        Set<CustomerField> selected = EnumSet.noneOf(CustomerField.class);
+        for (String path : fields.split(",")) {
+            String trimmed = path.strip();
+            if (CustomerField.ADDRESS.equals(trimmed)) {
+                CustomerField.all().stream()
+                        .filter(CustomerField::isAddress)
+                        .forEach(selected::add);
+            } else {
+                selected.add(CustomerField.fromPath(trimmed)
+                        .orElseThrow(() -> new InvalidFieldsException(fields)));
+            }
+        }
+        return selected;
+    }
+
+}
@@ -1,25 +1,84 @@
 package com.fiap.cliente.mapper;
 
+import com.fiap.cliente.controller.json.AddressDTO;
+import com.fiap.cliente.controller.json.CustomerBatchItemDTO;
+import com.fiap.cliente.controller.json.CustomerFieldsPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerFieldsResponseDTO;
+import com.fiap.cliente.controller.json.CustomerLookupResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPatchDTO;
 import com.fiap.cliente.controller.json.CustomerRequestDTO;
 import com.fiap.cliente.controller.json.CustomerResponseDTO;
 import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerBatchItem;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerLookup;
+import com.fiap.cliente.domain.CustomerPage;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
 import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
+import java.util.Set;
 import java.util.UUID;
 
-@Mapper(componentModel = "spring", uses = AddressMapper.class)
+@Mapper(componentModel = "spring", uses = {AddressMapper.class, CursorMapper.class})
 public interface CustomerMapper {
 
     CustomerEntity toEntity(Customer customer);
 
     Customer toDomain(CustomerEntity entity);
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Customer toDomain(CustomerRequestDTO dto);
 
-    Customer toDomain(UUID id, CustomerRequestDTO dto);
+    @Mapping(target = "street", source = "address.street")
+    @Mapping(target = "number", source = "address.number")
+    @Mapping(target = "city", source = "address.city")
+    @Mapping(target = "state", source = "address.state")
+    @Mapping(target = "zipCode", source = "address.zipCode")
+    CustomerView toView(CustomerEntity entity);
+
+    Customer toDomain(UUID id, Long version, CustomerRequestDTO dto);
 
     CustomerResponseDTO toResponse(Customer customer);
 
-}
+    @Mapping(target = "address", source = "view")
+    CustomerResponseDTO toResponse(CustomerView view);
+
+    default AddressDTO toAddressDTO(CustomerView view) {
+        if (!view.hasAddress()) {
+            return null;
+        }
+        return new AddressDTO(view.getStreet(), view.getNumber(), view.getCity(), view.getState(), view.getZipCode());
+    }
+
+    default CustomerFieldsResponseDTO toFieldsResponse(CustomerView view, @Context Set<CustomerField> fields) {
+        return new CustomerFieldsResponseDTO(view, fields);
+    }
+
+    @Mapping(target = "street", source = "address.street")
+    @Mapping(target = "number", source = "address.number")
+    @Mapping(target = "city", source = "address.city")
+    @Mapping(target = "state", source = "address.state")
+    @Mapping(target = "zipCode", source = "address.zipCode")
+    CustomerPatch toPatch(CustomerPatchDTO dto);
 
+    @Mapping(target = "id", source = "customer.id")
+    CustomerBatchItemDTO toBatchItemResponse(CustomerBatchItem item);
+
+    @Mapping(target = "items", source = "customers")
+    @Mapping(target = "nextCursor", source = "nextCursor", qualifiedByName = "toCursor")
+    CustomerPageResponseDTO toPageResponse(CustomerPage page);
+
+    @Mapping(target = "items", source = "customers")
+    CustomerLookupResponseDTO toLookupResponse(CustomerLookup lookup);
+
+    @Mapping(target = "items", source = "customers")
+    @Mapping(target = "nextCursor", source = "nextCursor", qualifiedByName = "toCursor")
+    CustomerFieldsPageResponseDTO toFieldsPageResponse(CustomerPage page, @Context Set<CustomerField> fields);
+
+}
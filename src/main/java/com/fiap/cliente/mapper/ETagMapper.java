@@ -0,0 +1,61 @@
+package com.fiap.cliente.mapper;
+
+import org.springframework.http.ETag;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ETagMapper {
+
+    static final long UNMATCHABLE_VERSION = -1L;
+
+    public static final String CBOR = "cbor";
+    public static final String SMILE = "smile";
+    public static final String PROTOBUF = "protobuf";
+
+    private static final String FORMAT_SEPARATOR = "-";
+
+    public String toETag(Long version) {
+        return version == null ? null : new ETag(String.valueOf(version), false).formattedTag();
+    }
+
+    public String toETag(Long version, String format) {
+        return version == null ? null : new ETag(version + FORMAT_SEPARATOR + format, false).formattedTag();
+    }
+
+    public boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        ETag current = ETag.create(eTag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
+    /** Returns the version required by an If-Match header, or {@code null} when the write is unconditional. */
+    public Long fromIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        long version = UNMATCHABLE_VERSION;
+        for (ETag candidate : ETag.parse(ifMatch)) {
+            if (candidate.isWildcard()) {
+                return null;
+            }
+            if (!candidate.weak() && version == UNMATCHABLE_VERSION) {
+                version = parseVersion(candidate.tag());
+            }
+        }
+        return version;
+    }
+
+    private static long parseVersion(String tag) {
+        int separator = tag.indexOf(FORMAT_SEPARATOR);
+        try {
+            long version = Long.parseLong(separator < 0 ? tag : tag.substring(0, separator));
+            return version < 0 ? UNMATCHABLE_VERSION : version;
+        } catch (NumberFormatException ex) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+
+}
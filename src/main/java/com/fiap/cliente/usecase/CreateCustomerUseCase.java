@@ -1,7 +1,6 @@
 package com.fiap.cliente.usecase;
 
 import com.fiap.cliente.domain.Customer;
-import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
 import com.fiap.cliente.gateway.CustomerGateway;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -14,10 +13,6 @@ public class CreateCustomerUseCase {
     private final CustomerGateway customerGateway;
     @Transactional
     public Customer execute(Customer customer) {
-        customerGateway.findByCpf(customer.getCpf())
-                .ifPresent(customerFound -> {
-                    throw new CpfAlreadyInRegisteredException(customerFound.getCpf());
-                });
-        return customerGateway.save(customer);
+        return customerGateway.create(customer);
     }
 }
@@ -0,0 +1,94 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerBatchItem;
+import com.fiap.cliente.exception.BatchTooLargeException;
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
+import com.fiap.cliente.exception.InvalidCpfException;
+import com.fiap.cliente.exception.InvalidZipCodeException;
+import com.fiap.cliente.exception.MissingRequiredFieldException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CreateCustomersBatchUseCase {
+
+    public static final int MAX_BATCH_SIZE = 50_000;
+    static final int MAX_SAVE_ATTEMPTS = 3;
+
+    CustomerGateway customerGateway;
+
+    public List<CustomerBatchItem> execute(List<Supplier<Customer>> candidates) {
+        if (candidates.size() > MAX_BATCH_SIZE) {
+            throw new BatchTooLargeException(candidates.size(), MAX_BATCH_SIZE);
+        }
+        List<CustomerBatchItem> results = new ArrayList<>(candidates.size());
+        List<Customer> valid = new ArrayList<>(candidates.size());
+        for (Supplier<Customer> candidate : candidates) {
+            try {
+                Customer customer = candidate.get();
+                if (customer == null) {
+                    results.add(CustomerBatchItem.invalid("Missing customer"));
+                    continue;
+                }
+                valid.add(customer);
+                results.add(null);
+            } catch (InvalidCpfException | InvalidZipCodeException | MissingRequiredFieldException ex) {
+                results.add(CustomerBatchItem.invalid(ex.getMessage()));
+            }
+        }
+
+        List<String> cpfs = valid.stream().map(Customer::getCpf).toList();
+        Set<String> registered = new HashSet<>(customerGateway.findRegisteredCpfs(cpfs));
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return save(results, valid, registered);
+            } catch (CpfAlreadyInRegisteredException ex) {
+                if (attempt == MAX_SAVE_ATTEMPTS) {
+                    throw ex;
+                }
+                registered.addAll(customerGateway.findRegisteredCpfs(cpfs));
+            }
+        }
+    }
+
+    private List<CustomerBatchItem> save(List<CustomerBatchItem> results, List<Customer> valid, Set<String> registered) {
+        Set<String> seenCpfs = new HashSet<>(registered);
+        List<Customer> toCreate = new ArrayList<>(valid.size());
+        List<CustomerBatchItem> validResults = new ArrayList<>(valid.size());
+        for (Customer customer : valid) {
+            if (seenCpfs.add(customer.getCpf())) {
+                toCreate.add(customer);
+                validResults.add(null);
+            } else {
+                validResults.add(CustomerBatchItem.duplicate(customer.getCpf()));
+            }
+        }
+
+        Iterator<Customer> created = customerGateway.saveAll(toCreate).iterator();
+        Iterator<CustomerBatchItem> validResult = validResults.iterator();
+        List<CustomerBatchItem> items = new ArrayList<>(results.size());
+        for (CustomerBatchItem result : results) {
+            if (result == null) {
+                CustomerBatchItem item = validResult.next();
+                items.add(item != null ? item : CustomerBatchItem.created(created.next()));
+            } else {
+                items.add(result);
+            }
+        }
+        return items;
+    }
+
+}
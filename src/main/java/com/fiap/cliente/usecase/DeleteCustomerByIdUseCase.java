@@ -18,13 +18,9 @@ public class DeleteCustomerByIdUseCase {
     CustomerGateway customerGateway;
     @Transactional
     public void execute(UUID customerId) {
-        customerGateway.findById(customerId)
-                .ifPresentOrElse(
-                        customerGateway::delete,
-                        () -> {
-                            throw new CustomerNotFoundException(customerId);
-                        }
-                );
+        if (!customerGateway.deleteById(customerId)) {
+            throw new CustomerNotFoundException(customerId);
+        }
     }
 
 }
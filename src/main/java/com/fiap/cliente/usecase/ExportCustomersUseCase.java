@@ -0,0 +1,29 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExportCustomersUseCase {
+
+    CustomerGateway customerGateway;
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void execute(Consumer<CustomerView> consumer) {
+        try (Stream<CustomerView> customers = customerGateway.streamAll()) {
+            customers.forEach(consumer);
+        }
+    }
+
+}
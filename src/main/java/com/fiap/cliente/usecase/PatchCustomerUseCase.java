@@ -0,0 +1,44 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import jakarta.transaction.Transactional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PatchCustomerUseCase {
+
+    CustomerGateway customerGateway;
+    @Transactional
+    public long execute(UUID customerId, Long expectedVersion, CustomerPatch patch) {
+        if (patch.isEmpty()) {
+            long version = currentVersion(customerId);
+            if (expectedVersion != null && expectedVersion != version) {
+                throw new CustomerVersionMismatchException(customerId);
+            }
+            return version;
+        }
+        if (!customerGateway.patch(customerId, expectedVersion, patch)) {
+            if (expectedVersion != null && customerGateway.existsById(customerId)) {
+                throw new CustomerVersionMismatchException(customerId);
+            }
+            throw new CustomerNotFoundException(customerId);
+        }
+        return expectedVersion != null ? expectedVersion + 1 : currentVersion(customerId);
+    }
+
+    private long currentVersion(UUID customerId) {
+        return customerGateway.findVersionById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(customerId));
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.fiap.cliente.usecase;
 
-import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerView;
 import com.fiap.cliente.exception.CustomerNotFoundException;
 import com.fiap.cliente.gateway.CustomerGateway;
 import lombok.AccessLevel;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -17,8 +19,13 @@ public class RetrieveCustomerByIdUseCase {
 
     CustomerGateway customerGateway;
 
-    public Customer execute(UUID customerId) {
-        return customerGateway.findById(customerId)
+    public CustomerView execute(UUID customerId) {
+        return customerGateway.findViewById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(customerId));
+    }
+
+    public CustomerView execute(UUID customerId, Set<CustomerField> fields) {
+        return customerGateway.findViewById(customerId, fields)
                 .orElseThrow(() -> new CustomerNotFoundException(customerId));
     }
 
@@ -0,0 +1,52 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerLookup;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.LookupTooLargeException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RetrieveCustomersByIdsUseCase {
+
+    public static final int MAX_IDS = 5_000;
+
+    CustomerGateway customerGateway;
+
+    public CustomerLookup execute(List<UUID> ids) {
+        if (ids.size() > MAX_IDS) {
+            throw new LookupTooLargeException(ids.size(), MAX_IDS);
+        }
+        Set<UUID> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        Map<UUID, CustomerView> found = new HashMap<>();
+        for (CustomerView customer : customerGateway.findAllById(distinct)) {
+            found.put(customer.getId(), customer);
+        }
+        List<CustomerView> customers = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>(distinct.size() - found.size());
+        for (UUID id : distinct) {
+            CustomerView customer = found.get(id);
+            if (customer != null) {
+                customers.add(customer);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new CustomerLookup(customers, missing);
+    }
+
+}
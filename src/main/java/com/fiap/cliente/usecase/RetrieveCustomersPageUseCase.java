@@ -0,0 +1,45 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.domain.CustomerPage;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class RetrieveCustomersPageUseCase {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    CustomerGateway customerGateway;
+
+    public CustomerPage execute(CustomerFilter filter, UUID after, int limit, boolean includeTotal) {
+        return execute(filter, after, limit, includeTotal, CustomerField.all());
+    }
+
+    public CustomerPage execute(CustomerFilter filter, UUID after, int limit, boolean includeTotal,
+                                Set<CustomerField> fields) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<CustomerView> customers = customerGateway.findPage(filter, after, pageSize + 1, fields);
+        boolean hasNext = customers.size() > pageSize;
+        List<CustomerView> items = hasNext ? customers.subList(0, pageSize) : customers;
+        UUID nextCursor = hasNext ? items.get(pageSize - 1).getId() : null;
+        Long approximateTotal = includeTotal ? total(filter) : null;
+        return new CustomerPage(items, nextCursor, approximateTotal);
+    }
+
+    private long total(CustomerFilter filter) {
+        return filter.isEmpty() ? customerGateway.approximateCount() : customerGateway.count(filter);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.InvalidSearchTermException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchCustomersByNameUseCase {
+
+    public static final int MIN_TERM_LENGTH = 3;
+    public static final int MAX_RESULTS = 50;
+
+    CustomerGateway customerGateway;
+
+    public List<CustomerView> execute(String name, int limit) {
+        String term = name == null ? "" : name.strip();
+        if (term.length() < MIN_TERM_LENGTH) {
+            throw new InvalidSearchTermException(MIN_TERM_LENGTH);
+        }
+        return customerGateway.searchByName(term, Math.max(1, Math.min(limit, MAX_RESULTS)));
+    }
+
+}
@@ -2,6 +2,7 @@ package com.fiap.cliente.usecase;
 
 import com.fiap.cliente.domain.Customer;
 import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
 import com.fiap.cliente.gateway.CustomerGateway;
 import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
@@ -16,14 +17,18 @@ public class UpdateCustomerUseCase {
 
     CustomerGateway customerGateway;
     @Transactional
-    public void execute(Customer updatedCustomer) {
-        customerGateway.findById(updatedCustomer.getId())
-                .ifPresentOrElse(
-                        existingCustomer -> customerGateway.save(updatedCustomer),
-                        () -> {
-                            throw new CustomerNotFoundException(updatedCustomer.getId());
-                        }
-                );
+    public long execute(Customer updatedCustomer) {
+        if (!customerGateway.update(updatedCustomer)) {
+            if (updatedCustomer.getVersion() != null && customerGateway.existsById(updatedCustomer.getId())) {
+                throw new CustomerVersionMismatchException(updatedCustomer.getId());
+            }
+            throw new CustomerNotFoundException(updatedCustomer.getId());
+        }
+        if (updatedCustomer.getVersion() != null) {
+            return updatedCustomer.getVersion() + 1;
+        }
+        return customerGateway.findVersionById(updatedCustomer.getId())
+                .orElseThrow(() -> new CustomerNotFoundException(updatedCustomer.getId()));
     }
 
 }
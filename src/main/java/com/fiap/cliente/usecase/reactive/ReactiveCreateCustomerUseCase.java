@@ -0,0 +1,25 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import com.fiap.cliente.infra.ReactiveConfig;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Component
+@Profile(ReactiveConfig.PROFILE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactiveCreateCustomerUseCase {
+
+    ReactiveCustomerGateway customerGateway;
+
+    public Mono<Customer> execute(Customer customer) {
+        return customerGateway.create(customer);
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import com.fiap.cliente.infra.ReactiveConfig;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Component
+@Profile(ReactiveConfig.PROFILE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactivePatchCustomerUseCase {
+
+    ReactiveCustomerGateway customerGateway;
+
+    public Mono<Long> execute(UUID customerId, Long expectedVersion, CustomerPatch patch) {
+        if (patch.isEmpty()) {
+            return customerGateway.findVersionById(customerId)
+                    .switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)))
+                    .flatMap(version -> expectedVersion != null && !expectedVersion.equals(version)
+                            ? Mono.error(new CustomerVersionMismatchException(customerId))
+                            : Mono.just(version));
+        }
+        return customerGateway.patch(customerId, expectedVersion, patch)
+                .switchIfEmpty(Mono.defer(() -> rejectPatch(customerId, expectedVersion)));
+    }
+
+    private Mono<Long> rejectPatch(UUID customerId, Long expectedVersion) {
+        Mono<Boolean> exists = expectedVersion == null ? Mono.just(false) : customerGateway.existsById(customerId);
+        return exists.flatMap(found -> Mono.error(found
+                ? new CustomerVersionMismatchException(customerId)
+                : new CustomerNotFoundException(customerId)));
+    }
+
+}
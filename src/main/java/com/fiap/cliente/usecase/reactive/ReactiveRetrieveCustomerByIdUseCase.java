@@ -0,0 +1,29 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import com.fiap.cliente.infra.ReactiveConfig;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+@Component
+@Profile(ReactiveConfig.PROFILE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactiveRetrieveCustomerByIdUseCase {
+
+    ReactiveCustomerGateway customerGateway;
+
+    public Mono<CustomerView> execute(UUID customerId) {
+        return customerGateway.findViewById(customerId)
+                .switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)));
+    }
+
+}
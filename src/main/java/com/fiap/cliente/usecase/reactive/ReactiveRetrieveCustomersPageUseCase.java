@@ -0,0 +1,45 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.CustomerPage;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import com.fiap.cliente.infra.ReactiveConfig;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.fiap.cliente.usecase.RetrieveCustomersPageUseCase.MAX_PAGE_SIZE;
+
+@RequiredArgsConstructor
+@Component
+@Profile(ReactiveConfig.PROFILE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactiveRetrieveCustomersPageUseCase {
+
+    ReactiveCustomerGateway customerGateway;
+
+    public Mono<CustomerPage> execute(UUID after, int limit, boolean includeTotal) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Mono<Optional<Long>> approximateTotal = includeTotal
+                ? customerGateway.approximateCount().map(Optional::of)
+                : Mono.just(Optional.empty());
+        return customerGateway.findPage(after, pageSize + 1)
+                .collectList()
+                .zipWith(approximateTotal, (customers, total) -> toPage(customers, pageSize, total.orElse(null)));
+    }
+
+    private static CustomerPage toPage(List<CustomerView> customers, int pageSize, Long approximateTotal) {
+        boolean hasNext = customers.size() > pageSize;
+        List<CustomerView> items = hasNext ? customers.subList(0, pageSize) : customers;
+        UUID nextCursor = hasNext ? items.get(pageSize - 1).getId() : null;
+        return new CustomerPage(items, nextCursor, approximateTotal);
+    }
+
+}
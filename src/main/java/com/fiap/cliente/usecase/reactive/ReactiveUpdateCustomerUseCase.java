@@ -0,0 +1,37 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import com.fiap.cliente.infra.ReactiveConfig;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@Component
+@Profile(ReactiveConfig.PROFILE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReactiveUpdateCustomerUseCase {
+
+    ReactiveCustomerGateway customerGateway;
+
+    public Mono<Long> execute(Customer updatedCustomer) {
+        return customerGateway.update(updatedCustomer)
+                .switchIfEmpty(Mono.defer(() -> rejectUpdate(updatedCustomer)));
+    }
+
+    private Mono<Long> rejectUpdate(Customer updatedCustomer) {
+        Mono<Boolean> exists = updatedCustomer.getVersion() == null
+                ? Mono.just(false)
+                : customerGateway.existsById(updatedCustomer.getId());
+        return exists.flatMap(found -> Mono.error(found
+                ? new CustomerVersionMismatchException(updatedCustomer.getId())
+                : new CustomerNotFoundException(updatedCustomer.getId())));
+    }
+
+}
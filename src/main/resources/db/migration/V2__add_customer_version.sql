@@ -0,0 +1,2 @@
+-- V2__add_customer_version.sql
+ALTER TABLE customers ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
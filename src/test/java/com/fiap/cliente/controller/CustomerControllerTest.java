@@ -1,34 +1,68 @@
 package com.fiap.cliente.controller;
 
 import com.fiap.cliente.controller.json.AddressDTO;
+import com.fiap.cliente.controller.json.CustomerBatchResponseDTO;
+import com.fiap.cliente.controller.json.CustomerFieldsPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerFieldsResponseDTO;
+import com.fiap.cliente.controller.json.CustomerLookupResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPatchDTO;
 import com.fiap.cliente.controller.json.CustomerRequestDTO;
 import com.fiap.cliente.controller.json.CustomerResponseDTO;
 import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerBatchItem;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.domain.CustomerLookup;
+import com.fiap.cliente.domain.CustomerPage;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
 import com.fiap.cliente.exception.InvalidCpfException;
+import com.fiap.cliente.exception.InvalidCursorException;
+import com.fiap.cliente.exception.InvalidFieldsException;
 import com.fiap.cliente.exception.InvalidZipCodeException;
+import com.fiap.cliente.infra.CacheConfig;
 import com.fiap.cliente.mapper.AddressMapper;
 import com.fiap.cliente.mapper.AddressMapperImpl;
+import com.fiap.cliente.mapper.CursorMapper;
+import com.fiap.cliente.mapper.CustomerFieldsMapper;
 import com.fiap.cliente.mapper.CustomerMapper;
 import com.fiap.cliente.mapper.CustomerMapperImpl;
+import com.fiap.cliente.mapper.ETagMapper;
 import com.fiap.cliente.usecase.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,11 +72,20 @@ class CustomerControllerTest {
     @Mock
     CreateCustomerUseCase createCustomerUseCase;
 
+    @Mock
+    CreateCustomersBatchUseCase createCustomersBatchUseCase;
+
     @Mock
     RetrieveCustomerByIdUseCase retrieveCustomerByIdUseCase;
 
     @Mock
-    RetrieveAllCustomersUseCase retrieveAllCustomersUseCase;
+    RetrieveCustomersPageUseCase retrieveCustomersPageUseCase;
+
+    @Mock
+    RetrieveCustomersByIdsUseCase retrieveCustomersByIdsUseCase;
+
+    @Mock
+    SearchCustomersByNameUseCase searchCustomersByNameUseCase;
 
     @Mock
     DeleteCustomerByIdUseCase deleteCustomerByIdUseCase;
@@ -50,32 +93,57 @@ class CustomerControllerTest {
     @Mock
     UpdateCustomerUseCase updateCustomerUseCase;
 
+    @Mock
+    PatchCustomerUseCase patchCustomerUseCase;
+
+    @Mock
+    ExportCustomersUseCase exportCustomersUseCase;
+
     CustomerMapper customerMapper;
+    CursorMapper cursorMapper;
+    ObjectMapper objectMapper;
     CustomerController customerController;
 
     final UUID CUSTOMER_ID = UUID.randomUUID();
     Customer customerWithId;
+    CustomerView customerView;
     CustomerRequestDTO requestDTO;
 
     @BeforeEach
     void setUp() {
         AddressMapper addressMapper = new AddressMapperImpl();
         customerMapper = new CustomerMapperImpl();
+        cursorMapper = new CursorMapper();
 
         setFieldValue(customerMapper, "addressMapper", addressMapper);
+        setFieldValue(customerMapper, "cursorMapper", cursorMapper);
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
 
         customerController = new CustomerController(
                 createCustomerUseCase,
+                createCustomersBatchUseCase,
                 retrieveCustomerByIdUseCase,
-                retrieveAllCustomersUseCase,
+                retrieveCustomersPageUseCase,
+                retrieveCustomersByIdsUseCase,
+                searchCustomersByNameUseCase,
                 deleteCustomerByIdUseCase,
                 updateCustomerUseCase,
-                customerMapper);
+                patchCustomerUseCase,
+                exportCustomersUseCase,
+                customerMapper,
+                cursorMapper,
+                new ETagMapper(),
+                new CustomerFieldsMapper(),
+                new CustomerResponseCache(new ConcurrentMapCacheManager(CacheConfig.CUSTOMER_JSON_CACHE), objectMapper),
+                objectMapper);
 
         AddressDTO addressDTO = new AddressDTO("Rua Artur", "3", "Recife", "Pernambuco", "25611-123");
-        requestDTO = new CustomerRequestDTO("Joao Paulo Rodrigues", "12345678901", LocalDate.of(1990, 1, 1), addressDTO);
+        requestDTO = new CustomerRequestDTO("Joao Paulo Rodrigues", "12345678909", LocalDate.of(1990, 1, 1), addressDTO);
 
-        customerWithId = customerMapper.toDomain(CUSTOMER_ID, requestDTO);
+        customerWithId = customerMapper.toDomain(CUSTOMER_ID, 3L, requestDTO);
+        customerView = new CustomerView(CUSTOMER_ID, requestDTO.getFullName(), requestDTO.getCpf(), requestDTO.getBirthDate(),
+                addressDTO.getStreet(), addressDTO.getNumber(), addressDTO.getCity(), addressDTO.getState(),
+                addressDTO.getZipCode(), 3L);
     }
 
     private void setFieldValue(Object object, String fieldName, Object value) {
@@ -111,41 +179,300 @@ class CustomerControllerTest {
     }
 
     @Test
-    void getCustomerByIdSuccessfully() {
-        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerWithId);
+    @SuppressWarnings("unchecked")
+    void createCustomersBatchReportsEachItem() {
+        CustomerRequestDTO invalidDTO = new CustomerRequestDTO("Ana Torres", "123", LocalDate.of(1995, 3, 10), requestDTO.getAddress());
+        when(createCustomersBatchUseCase.execute(anyList())).thenAnswer(invocation -> {
+            List<Supplier<Customer>> candidates = invocation.getArgument(0);
+            Customer created = candidates.get(0).get();
+            setFieldValue(created, "id", CUSTOMER_ID);
+            InvalidCpfException invalid = assertThrows(InvalidCpfException.class, () -> candidates.get(1).get());
+            return List.of(
+                    CustomerBatchItem.created(created),
+                    CustomerBatchItem.invalid(invalid.getMessage()),
+                    CustomerBatchItem.duplicate(requestDTO.getCpf()));
+        });
+
+        ResponseEntity<CustomerBatchResponseDTO> response = customerController.createBatch(List.of(requestDTO, invalidDTO, requestDTO));
 
-        ResponseEntity<CustomerResponseDTO> response = customerController.getById(CUSTOMER_ID);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CustomerBatchResponseDTO body = response.getBody();
+        assertNotNull(body);
+        assertEquals(1, body.getCreated());
+        assertEquals(1, body.getInvalid());
+        assertEquals(1, body.getDuplicates());
+        assertEquals("CREATED", body.getItems().get(0).getStatus());
+        assertEquals(CUSTOMER_ID, body.getItems().get(0).getId());
+        assertEquals("INVALID", body.getItems().get(1).getStatus());
+        assertNull(body.getItems().get(1).getId());
+        assertEquals("DUPLICATE", body.getItems().get(2).getStatus());
+        assertEquals(requestDTO.getCpf(), body.getItems().get(2).getCpf());
+    }
+
+    @Test
+    void getCustomerByIdSuccessfully() throws Exception {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerView);
+
+        ResponseEntity<byte[]> response = customerController.getById(CUSTOMER_ID, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders().getVary());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        CustomerResponseDTO body = objectMapper.readValue(response.getBody(), CustomerResponseDTO.class);
+        assertEquals(CUSTOMER_ID, body.getId());
+        assertEquals(requestDTO.getFullName(), body.getFullName());
+        assertEquals("25611-123", body.getAddress().getZipCode());
+    }
+
+    @Test
+    void getCustomerByIdWithoutAddress() throws Exception {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(new CustomerView(CUSTOMER_ID,
+                requestDTO.getFullName(), requestDTO.getCpf(), requestDTO.getBirthDate(), null, null, null, null, null, 0L));
+
+        ResponseEntity<byte[]> response = customerController.getById(CUSTOMER_ID, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(objectMapper.readValue(response.getBody(), CustomerResponseDTO.class).getAddress());
+    }
+
+    @Test
+    void getCustomerByIdServesCachedJsonOnNextRequests() {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerView);
+
+        ResponseEntity<byte[]> first = customerController.getById(CUSTOMER_ID, null);
+        ResponseEntity<byte[]> second = customerController.getById(CUSTOMER_ID, null);
+        ResponseEntity<byte[]> notModified = customerController.getById(CUSTOMER_ID, "\"3\"");
+
+        assertSame(first.getBody(), second.getBody());
+        assertEquals("\"3\"", second.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        verify(retrieveCustomerByIdUseCase, times(1)).execute(CUSTOMER_ID);
+    }
+
+    @Test
+    void getCustomerByIdNotModifiedWhenETagMatches() {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerView);
+
+        ResponseEntity<byte[]> response = customerController.getById(CUSTOMER_ID, "\"2\", W/\"3\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void getCustomerByIdReturnsBodyWhenETagIsStale() {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerView);
+
+        ResponseEntity<byte[]> response = customerController.getById(CUSTOMER_ID, "\"2\"");
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
+    }
+
+    @Test
+    void getBinaryCustomerByIdReturnsResponseDTO() {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerView);
+
+        ResponseEntity<CustomerResponseDTO> response = customerController.getCborById(CUSTOMER_ID, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"3-cbor\"", response.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders().getVary());
         assertEquals(CUSTOMER_ID, response.getBody().getId());
-        assertEquals(requestDTO.getFullName(), response.getBody().getFullName());
+        assertEquals("25611-123", response.getBody().getAddress().getZipCode());
+    }
+
+    @Test
+    void getBinaryCustomerByIdUsesAnETagPerFormat() {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerView);
+
+        assertEquals("\"3\"", customerController.getById(CUSTOMER_ID, null).getHeaders().getETag());
+        assertEquals("\"3-smile\"", customerController.getSmileById(CUSTOMER_ID, null).getHeaders().getETag());
+        assertEquals("\"3-protobuf\"", customerController.getProtobufById(CUSTOMER_ID, null).getHeaders().getETag());
+    }
+
+    @Test
+    void getBinaryCustomerByIdNotModifiedOnlyWhenETagOfThatFormatMatches() {
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID)).thenReturn(customerView);
+
+        ResponseEntity<CustomerResponseDTO> notModified = customerController.getCborById(CUSTOMER_ID, "\"3-cbor\"");
+        ResponseEntity<CustomerResponseDTO> otherFormat = customerController.getCborById(CUSTOMER_ID, "\"3\", \"3-smile\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(List.of(HttpHeaders.ACCEPT), notModified.getHeaders().getVary());
+        assertNull(notModified.getBody());
+        assertEquals(HttpStatus.OK, otherFormat.getStatusCode());
     }
 
     @Test
     void getAllCustomersSuccessfully() {
-        List<Customer> customers = List.of(customerWithId);
-        when(retrieveAllCustomersUseCase.execute()).thenReturn(customers);
+        CustomerPage page = new CustomerPage(List.of(customerView), null, null);
+        when(retrieveCustomersPageUseCase.execute(any(CustomerFilter.class), isNull(), eq(50), eq(false))).thenReturn(page);
 
-        ResponseEntity<List<CustomerResponseDTO>> response = customerController.getAll();
+        ResponseEntity<CustomerPageResponseDTO> response = customerController.getAll(null, 50, false, null, null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().size());
-        CustomerResponseDTO responseDTO = response.getBody().getFirst();
+        assertEquals(1, response.getBody().getItems().size());
+        CustomerResponseDTO responseDTO = response.getBody().getItems().get(0);
         assertEquals(CUSTOMER_ID, responseDTO.getId());
         assertEquals(requestDTO.getFullName(), responseDTO.getFullName());
+        assertNull(response.getBody().getNextCursor());
+        assertNull(response.getBody().getApproximateTotal());
     }
 
     @Test
     void getAllCustomersReturnsEmptyList() {
-        when(retrieveAllCustomersUseCase.execute()).thenReturn(Collections.emptyList());
+        when(retrieveCustomersPageUseCase.execute(any(CustomerFilter.class), isNull(), eq(50), eq(false)))
+                .thenReturn(new CustomerPage(Collections.emptyList(), null, null));
 
-        ResponseEntity<List<CustomerResponseDTO>> response = customerController.getAll();
+        ResponseEntity<CustomerPageResponseDTO> response = customerController.getAll(null, 50, false, null, null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertTrue(response.getBody().isEmpty());
+        assertTrue(response.getBody().getItems().isEmpty());
+    }
+
+    @Test
+    void getAllCustomersWithCursorRoundTrip() {
+        UUID lastId = UUID.randomUUID();
+        when(retrieveCustomersPageUseCase.execute(any(CustomerFilter.class), isNull(), eq(1), eq(true)))
+                .thenReturn(new CustomerPage(List.of(customerView), lastId, 2L));
+        when(retrieveCustomersPageUseCase.execute(any(CustomerFilter.class), eq(lastId), eq(1), eq(true)))
+                .thenReturn(new CustomerPage(Collections.emptyList(), null, 2L));
+
+        ResponseEntity<CustomerPageResponseDTO> firstPage = customerController.getAll(null, 1, true, null, null, null, null);
+        String nextCursor = firstPage.getBody().getNextCursor();
+        ResponseEntity<CustomerPageResponseDTO> secondPage = customerController.getAll(nextCursor, 1, true, null, null, null, null);
+
+        assertNotNull(nextCursor);
+        assertEquals(2L, firstPage.getBody().getApproximateTotal());
+        assertTrue(secondPage.getBody().getItems().isEmpty());
+        verify(retrieveCustomersPageUseCase).execute(any(CustomerFilter.class), eq(lastId), eq(1), eq(true));
+    }
+
+    @Test
+    void searchCustomersByName() {
+        when(searchCustomersByNameUseCase.execute("joao", 20)).thenReturn(List.of(customerView));
+
+        ResponseEntity<List<CustomerResponseDTO>> response = customerController.search("joao", 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(CUSTOMER_ID, response.getBody().get(0).getId());
+    }
+
+    @Test
+    void lookupCustomersByIds() {
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(CUSTOMER_ID, missingId);
+        when(retrieveCustomersByIdsUseCase.execute(ids))
+                .thenReturn(new CustomerLookup(List.of(customerView), List.of(missingId)));
+
+        ResponseEntity<CustomerLookupResponseDTO> response = customerController.lookup(ids);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getItems().size());
+        assertEquals(CUSTOMER_ID, response.getBody().getItems().get(0).getId());
+        assertEquals(List.of(missingId), response.getBody().getMissing());
+    }
+
+    @Test
+    void getAllCustomersPassesFilter() {
+        ArgumentCaptor<CustomerFilter> captor = ArgumentCaptor.forClass(CustomerFilter.class);
+        when(retrieveCustomersPageUseCase.execute(captor.capture(), isNull(), eq(50), eq(false)))
+                .thenReturn(new CustomerPage(List.of(customerView), null, null));
+
+        customerController.getAll(null, 50, false, "PE", "Recife", LocalDate.of(1980, 1, 1), LocalDate.of(1999, 12, 31));
+
+        CustomerFilter filter = captor.getValue();
+        assertEquals("PE", filter.getState());
+        assertEquals("Recife", filter.getCity());
+        assertEquals(LocalDate.of(1980, 1, 1), filter.getBornAfter());
+        assertEquals(LocalDate.of(1999, 12, 31), filter.getBornBefore());
+    }
+
+    @Test
+    void getSelectedFieldsById() throws Exception {
+        Set<CustomerField> fields = EnumSet.of(CustomerField.ID, CustomerField.FULL_NAME, CustomerField.CITY);
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID, fields)).thenReturn(customerView);
+
+        ResponseEntity<CustomerFieldsResponseDTO> response =
+                customerController.getFieldsById(CUSTOMER_ID, "id, fullName,address.city", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertEquals("{\"id\":\"" + CUSTOMER_ID + "\",\"fullName\":\"Joao Paulo Rodrigues\",\"address\":{\"city\":\"Recife\"}}",
+                JsonMapper.builder().build().writeValueAsString(response.getBody()));
+    }
+
+    @Test
+    void getSelectedFieldsByIdExpandsAddress() {
+        Set<CustomerField> fields = EnumSet.of(CustomerField.STREET, CustomerField.NUMBER, CustomerField.CITY,
+                CustomerField.STATE, CustomerField.ZIP_CODE);
+        when(retrieveCustomerByIdUseCase.execute(CUSTOMER_ID, fields)).thenReturn(customerView);
+
+        ResponseEntity<CustomerFieldsResponseDTO> response = customerController.getFieldsById(CUSTOMER_ID, "address", null);
+
+        assertEquals(fields, response.getBody().getFields());
+    }
+
+    @Test
+    void getSelectedFieldsOfPage() throws Exception {
+        Set<CustomerField> fields = EnumSet.of(CustomerField.ID);
+        UUID lastId = UUID.randomUUID();
+        when(retrieveCustomersPageUseCase.execute(any(CustomerFilter.class), isNull(), eq(1), eq(false), eq(fields)))
+                .thenReturn(new CustomerPage(List.of(customerView), lastId, null));
+
+        ResponseEntity<CustomerFieldsPageResponseDTO> response =
+                customerController.getAllFields("id", null, 1, false, null, null, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(cursorMapper.toCursor(lastId), response.getBody().getNextCursor());
+        assertEquals("[{\"id\":\"" + CUSTOMER_ID + "\"}]",
+                JsonMapper.builder().build().writeValueAsString(response.getBody().getItems()));
+    }
+
+    @Test
+    void failToGetSelectedFieldsDueToUnknownField() {
+        assertThrows(InvalidFieldsException.class, () -> customerController.getFieldsById(CUSTOMER_ID, "id,password", null));
+        assertThrows(InvalidFieldsException.class, () ->
+                customerController.getAllFields(" ", null, 50, false, null, null, null, null));
+        verifyNoInteractions(retrieveCustomerByIdUseCase, retrieveCustomersPageUseCase);
+    }
+
+    @Test
+    void failToGetAllCustomersDueToInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () ->
+                customerController.getAll("not-a-cursor", 50, false, null, null, null, null)
+        );
+        verifyNoInteractions(retrieveCustomersPageUseCase);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportCustomersAsNdjson() throws Exception {
+        CustomerView otherCustomer = new CustomerView(UUID.randomUUID(), "Ana Torres", "98765432100",
+                LocalDate.of(1995, 3, 10), null, null, null, null, null, 0L);
+        doAnswer(invocation -> {
+            Consumer<CustomerView> consumer = invocation.getArgument(0);
+            consumer.accept(customerView);
+            consumer.accept(otherCustomer);
+            return null;
+        }).when(exportCustomersUseCase).execute(any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> response = customerController.export();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains(CUSTOMER_ID.toString()));
+        assertTrue(lines[1].contains("Ana Torres"));
     }
 
     @Test
@@ -163,11 +490,12 @@ class CustomerControllerTest {
         setFieldValue(requestDTO, "fullName", "Joao Villar");
         Customer customerUpdated = customerMapper.toDomain(requestDTO);
         setFieldValue(customerUpdated, "id", CUSTOMER_ID);
-        doNothing().when(updateCustomerUseCase).execute(any(Customer.class));
+        when(updateCustomerUseCase.execute(any(Customer.class))).thenReturn(3L);
 
-        ResponseEntity<CustomerResponseDTO> response = customerController.update(CUSTOMER_ID, requestDTO);
+        ResponseEntity<CustomerResponseDTO> response = customerController.update(CUSTOMER_ID, null, requestDTO);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
         assertNotNull(response.getBody());
 
         CustomerResponseDTO responseDTO = response.getBody();
@@ -178,6 +506,63 @@ class CustomerControllerTest {
         verify(updateCustomerUseCase).execute(any(Customer.class));
     }
 
+    @Test
+    void updateCustomerWithIfMatchPassesExpectedVersion() {
+        when(updateCustomerUseCase.execute(any(Customer.class))).thenReturn(8L);
+
+        ResponseEntity<CustomerResponseDTO> response = customerController.update(CUSTOMER_ID, "\"7\"", requestDTO);
+
+        ArgumentCaptor<Customer> captor = ArgumentCaptor.forClass(Customer.class);
+        verify(updateCustomerUseCase).execute(captor.capture());
+        assertEquals(7L, captor.getValue().getVersion());
+        assertEquals("\"8\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void updateCustomerAcceptsIfMatchWithETagOfABinaryFormat() {
+        customerController.update(CUSTOMER_ID, "\"7-cbor\"", requestDTO);
+
+        ArgumentCaptor<Customer> captor = ArgumentCaptor.forClass(Customer.class);
+        verify(updateCustomerUseCase).execute(captor.capture());
+        assertEquals(7L, captor.getValue().getVersion());
+    }
+
+    @Test
+    void patchCustomerAddressSuccessfully() {
+        CustomerPatchDTO patchDTO = new CustomerPatchDTO(null, null, null,
+                new AddressDTO(null, null, "Olinda", null, null));
+
+        when(patchCustomerUseCase.execute(eq(CUSTOMER_ID), isNull(), any(CustomerPatch.class))).thenReturn(2L);
+
+        ResponseEntity<Void> response = customerController.patch(CUSTOMER_ID, null, patchDTO);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals("\"2\"", response.getHeaders().getETag());
+        ArgumentCaptor<CustomerPatch> captor = ArgumentCaptor.forClass(CustomerPatch.class);
+        verify(patchCustomerUseCase).execute(eq(CUSTOMER_ID), isNull(), captor.capture());
+        assertEquals("Olinda", captor.getValue().getCity());
+        assertNull(captor.getValue().getFullName());
+        assertNull(captor.getValue().getZipCode());
+    }
+
+    @Test
+    void patchCustomerWithIfMatchPassesExpectedVersion() {
+        CustomerPatchDTO patchDTO = new CustomerPatchDTO("Maria Souza", null, null, null);
+        when(patchCustomerUseCase.execute(eq(CUSTOMER_ID), eq(4L), any(CustomerPatch.class))).thenReturn(5L);
+
+        ResponseEntity<Void> response = customerController.patch(CUSTOMER_ID, "\"4\"", patchDTO);
+
+        assertEquals("\"5\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void failToPatchCustomerDueToInvalidCpf() {
+        CustomerPatchDTO patchDTO = new CustomerPatchDTO(null, "123", null, null);
+
+        assertThrows(InvalidCpfException.class, () -> customerController.patch(CUSTOMER_ID, null, patchDTO));
+        verifyNoInteractions(patchCustomerUseCase);
+    }
+
     @Test
     void failedToCreateCustomerDueToInvalidCpf() {
         setFieldValue(requestDTO, "cpf", "2345678901");
@@ -186,6 +571,25 @@ class CustomerControllerTest {
         );
     }
 
+    @Test
+    void failedToCreateCustomerDueToWrongCheckDigits() {
+        setFieldValue(requestDTO, "cpf", "12345678901");
+        assertThrows(InvalidCpfException.class, () ->
+                customerController.create(requestDTO)
+        );
+        verifyNoInteractions(createCustomerUseCase);
+    }
+
+    @Test
+    void createCustomerWithFormattedCpf() {
+        setFieldValue(requestDTO, "cpf", "123.456.789-09");
+        when(createCustomerUseCase.execute(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ResponseEntity<CustomerResponseDTO> response = customerController.create(requestDTO);
+
+        assertEquals("12345678909", response.getBody().getCpf());
+    }
+
     @Test
     void failedToCreateCustomerDueToNullCpf() {
         setFieldValue(requestDTO, "cpf", null);
@@ -0,0 +1,121 @@
+package com.fiap.cliente.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import com.fiap.cliente.controller.json.SerializedCustomerResponse;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.infra.CacheConfig;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class CustomerResponseCacheTest {
+
+    private static final int CONCURRENT_READERS = 16;
+
+    CacheManager cacheManager = new CacheConfig().cacheManager("maximumSize=100,expireAfterWrite=60s",
+            "maximumSize=100,expireAfterWrite=60s");
+    CustomerResponseCache customerResponseCache = new CustomerResponseCache(cacheManager, new ObjectMapper());
+    ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void doNotCacheAResponseEvictedWhileItWasLoading() throws Exception {
+        UUID customerId = UUID.randomUUID();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<SerializedCustomerResponse> stale = executor.submit(() -> customerResponseCache.get(customerId, () -> {
+            loading.countDown();
+            try {
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return serialize(customerId, "\"1\"");
+        }));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        cacheManager.getCache(CacheConfig.CUSTOMER_JSON_CACHE).evict(customerId);
+        release.countDown();
+
+        assertEquals("\"1\"", stale.get(10, TimeUnit.SECONDS).getETag());
+        assertEquals("\"2\"", customerResponseCache.get(customerId, () -> serialize(customerId, "\"2\"")).getETag());
+    }
+
+    @Test
+    void concurrentMissesForDifferentIdsWithNestedCustomerLoadsAllComplete() throws Exception {
+        Cache customers = cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+        CountDownLatch allLoading = new CountDownLatch(CONCURRENT_READERS);
+
+        List<Future<SerializedCustomerResponse>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_READERS; i++) {
+            UUID customerId = UUID.randomUUID();
+            results.add(executor.submit(() -> customerResponseCache.get(customerId, () -> {
+                String eTag = customers.get(customerId, () -> {
+                    allLoading.countDown();
+                    assertTrue(allLoading.await(10, TimeUnit.SECONDS));
+                    return "\"1\"";
+                });
+                return serialize(customerId, eTag);
+            })));
+        }
+
+        for (Future<SerializedCustomerResponse> result : results) {
+            assertEquals("\"1\"", result.get(15, TimeUnit.SECONDS).getETag());
+        }
+    }
+
+    @Test
+    void serveTheLoadedResponseAfterAnotherIsEvicted() {
+        UUID customerId = UUID.randomUUID();
+        UUID otherId = UUID.randomUUID();
+        SerializedCustomerResponse loaded = customerResponseCache.get(customerId, () -> serialize(customerId, "\"1\""));
+        customerResponseCache.get(otherId, () -> serialize(otherId, "\"1\""));
+
+        customerResponseCache.evict(otherId);
+
+        assertSame(loaded, customerResponseCache.get(customerId, () -> fail("Cached response was loaded again")));
+        assertEquals("\"2\"", customerResponseCache.get(otherId, () -> serialize(otherId, "\"2\"")).getETag());
+    }
+
+    @Test
+    void serveTheLoadedResponseUntilItIsEvicted() {
+        UUID customerId = UUID.randomUUID();
+        SerializedCustomerResponse loaded = customerResponseCache.get(customerId, () -> serialize(customerId, "\"1\""));
+
+        assertSame(loaded, customerResponseCache.get(customerId, () -> fail("Cached response was loaded again")));
+    }
+
+    @Test
+    void propagateTheLoaderExceptionAndCacheNothing() {
+        UUID customerId = UUID.randomUUID();
+
+        assertThrows(CustomerNotFoundException.class, () -> customerResponseCache.get(customerId, () -> {
+            throw new CustomerNotFoundException(customerId);
+        }));
+        assertNull(cacheManager.getCache(CacheConfig.CUSTOMER_JSON_CACHE).get(customerId));
+    }
+
+    private SerializedCustomerResponse serialize(UUID customerId, String eTag) {
+        return customerResponseCache.serialize(eTag, CustomerResponseDTO.builder().id(customerId).build());
+    }
+}
@@ -0,0 +1,53 @@
+package com.fiap.cliente.domain;
+
+import com.fiap.cliente.exception.InvalidCpfException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CpfTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345678909", "52998224725", "11144477735", "00000000191", "93541134780"})
+    void acceptValidCpf(String cpf) {
+        assertTrue(Cpf.isValid(cpf));
+        assertSame(cpf, Cpf.normalize(cpf));
+    }
+
+    @Test
+    void normalizeFormattedCpf() {
+        assertTrue(Cpf.isValid("529.982.247-25"));
+        assertEquals("52998224725", Cpf.normalize("529.982.247-25"));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "123", "12345678901", "12345678990", "aaaaaaaaaaa", "1234567890a", "11111111111",
+            "00000000000", "99999999999", "123.456.789-01", "123-456-789.09", "123456789-09", "+2345678909"})
+    void rejectInvalidCpf(String cpf) {
+        assertFalse(Cpf.isValid(cpf));
+        assertThrows(InvalidCpfException.class, () -> Cpf.normalize(cpf));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345678909", "00000000191", "06847362766", "99999999999", "00000000000"})
+    void convertToNumberKeepingLeadingZeros(String cpf) {
+        assertEquals(Long.parseLong(cpf), Cpf.toNumber(cpf));
+        assertEquals(cpf, Cpf.fromNumber(Cpf.toNumber(cpf)));
+    }
+
+    @Test
+    void convertFormattedCpfToNumber() {
+        assertEquals(12345678909L, Cpf.toNumber("123.456.789-09"));
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "123", "aaaaaaaaaaa", "1234567890a", "123456789-09", "123-456-789.09", "+2345678909"})
+    void rejectConvertingCpfThatIsNotElevenDigits(String cpf) {
+        assertThrows(InvalidCpfException.class, () -> Cpf.toNumber(cpf));
+    }
+}
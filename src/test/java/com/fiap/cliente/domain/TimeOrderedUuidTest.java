@@ -0,0 +1,63 @@
+package com.fiap.cliente.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    void generateVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuid.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(id.getMostSignificantBits() >>> 16 >= before);
+        assertTrue(id.getMostSignificantBits() >>> 16 <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void generateStrictlyIncreasingIdsWithinTheSameMillisecond() {
+        UUID previous = TimeOrderedUuid.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = TimeOrderedUuid.next();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                    next + " does not follow " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generateUniqueIdsAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(TimeOrderedUuid.next());
+                    }
+                    return ids;
+                }));
+            }
+            Set<Long> prefixes = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                future.get().forEach(id -> prefixes.add(id.getMostSignificantBits()));
+            }
+            assertEquals(40_000, prefixes.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fiap.cliente.gateway.database;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CpfMigrationTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void refuseToStoreCpfAsBigintWhileNonNumericCpfsRemain() {
+        flyway("4").migrate();
+        insert("aaaaaaaaaaa");
+        insert("123.456.789");
+        insert("00000000191");
+
+        assertThrows(FlywayException.class, () -> flyway("latest").migrate());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customers", Integer.class));
+
+        jdbcTemplate.update("DELETE FROM customers WHERE NOT REGEXP_LIKE(cpf, '^[0-9]{11}$')");
+        flyway("latest").repair();
+        flyway("latest").migrate();
+
+        assertEquals(191L, jdbcTemplate.queryForObject("SELECT cpf FROM customers", Long.class));
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .target(target)
+                .load();
+    }
+
+    private void insert(String cpf) {
+        jdbcTemplate.update("INSERT INTO customers (id, full_name, cpf, birth_date) VALUES (?, ?, ?, DATE '1990-01-01')",
+                UUID.randomUUID(), "Cliente " + cpf, cpf);
+    }
+}
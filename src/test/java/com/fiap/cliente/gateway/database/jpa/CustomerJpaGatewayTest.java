@@ -2,24 +2,40 @@ package com.fiap.cliente.gateway.database.jpa;
 
 import com.fiap.cliente.domain.Address;
 import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
 import com.fiap.cliente.gateway.database.jpa.entity.CustomerEntity;
 import com.fiap.cliente.gateway.database.jpa.repository.CustomerRepository;
 import com.fiap.cliente.mapper.CustomerMapper;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,55 +52,154 @@ class CustomerJpaGatewayTest {
 
     Customer customer;
     CustomerEntity customerEntity;
+    CustomerView customerView;
 
     @BeforeEach
     void setUp() {
         customerJpaGateway = new CustomerJpaGateway(customerRepository, customerMapper);
 
         Address address = new Address("Rua A", "123", "São Paulo", "SP", "01234567");
-        customer = new Customer(UUID.randomUUID(), "Maria Silva", "12345678901",
-                               LocalDate.of(1990, 5, 15), address);
+        customer = new Customer(UUID.randomUUID(), "Maria Silva", "12345678909",
+                               LocalDate.of(1990, 5, 15), address, null);
         customerEntity = new CustomerEntity();
+        customerView = new CustomerView(customer.getId(), "Maria Silva", "12345678909", LocalDate.of(1990, 5, 15),
+                "Rua A", "123", "São Paulo", "SP", "01234567", 0L);
     }
 
     @Test
-    void save() {
+    void update() {
         when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
-        when(customerRepository.save(customerEntity)).thenReturn(customerEntity);
+        when(customerRepository.updateCustomer(customerEntity)).thenReturn(1);
+
+        assertTrue(customerJpaGateway.update(customer));
+        verify(customerRepository).updateCustomer(customerEntity);
+        verify(customerRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateWhenNotExists() {
+        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+        when(customerRepository.updateCustomer(customerEntity)).thenReturn(0);
+
+        assertFalse(customerJpaGateway.update(customer));
+    }
+
+    @Test
+    void updateTranslatesCpfUniqueViolation() {
+        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+        when(customerRepository.updateCustomer(customerEntity)).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "uk_customer_cpf")));
+
+        assertThrows(CpfAlreadyInRegisteredException.class, () -> customerJpaGateway.update(customer));
+    }
+
+    @Test
+    void patchOnlyPresentAttributes() {
+        UUID customerId = UUID.randomUUID();
+        CustomerPatch patch = new CustomerPatch(null, null, null, "Rua Nova", null, "Recife", null, null);
+        when(customerRepository.updateAttributes(customerId, null, Map.of("address.street", "Rua Nova", "address.city", "Recife")))
+                .thenReturn(1);
+
+        assertTrue(customerJpaGateway.patch(customerId, null, patch));
+        verify(customerRepository).updateAttributes(customerId, null, Map.of("address.street", "Rua Nova", "address.city", "Recife"));
+    }
+
+    @Test
+    void create() {
+        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+        when(customerRepository.saveAndFlush(customerEntity)).thenReturn(customerEntity);
         when(customerMapper.toDomain(customerEntity)).thenReturn(customer);
 
-        Customer result = customerJpaGateway.save(customer);
+        Customer result = customerJpaGateway.create(customer);
 
         assertEquals(customer, result);
-        verify(customerMapper).toEntity(customer);
-        verify(customerRepository).save(customerEntity);
-        verify(customerMapper).toDomain(customerEntity);
+        verify(customerRepository).saveAndFlush(customerEntity);
+        verify(customerRepository, never()).findByCpf(any());
     }
 
     @Test
-    void findByCpfWhenExists() {
-        String cpf = "12345678901";
-        when(customerRepository.findByCpf(cpf)).thenReturn(Optional.of(customerEntity));
+    void createTranslatesCpfUniqueViolation() {
+        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+        when(customerRepository.saveAndFlush(customerEntity)).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "PUBLIC.UK_CUSTOMER_CPF_INDEX_2")));
+
+        CpfAlreadyInRegisteredException exception = assertThrows(CpfAlreadyInRegisteredException.class,
+                () -> customerJpaGateway.create(customer));
+
+        assertTrue(exception.getMessage().endsWith(customer.getCpf()));
+    }
+
+    @Test
+    void createPropagatesOtherIntegrityViolations() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException(), "customers_full_name_not_null"));
+        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+        when(customerRepository.saveAndFlush(customerEntity)).thenThrow(violation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> customerJpaGateway.create(customer));
+
+        assertEquals(violation, exception);
+    }
+
+    @Test
+    void saveAll() {
+        CustomerEntity otherEntity = new CustomerEntity();
+        Customer other = new Customer(UUID.randomUUID(), "Joao Silva", "98765432100",
+                LocalDate.of(1985, 3, 20), customer.getAddress(), null);
+        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+        when(customerMapper.toEntity(other)).thenReturn(otherEntity);
+        when(customerRepository.persistAll(List.of(customerEntity, otherEntity))).thenReturn(List.of(customerEntity, otherEntity));
         when(customerMapper.toDomain(customerEntity)).thenReturn(customer);
+        when(customerMapper.toDomain(otherEntity)).thenReturn(other);
 
-        Optional<Customer> result = customerJpaGateway.findByCpf(cpf);
+        List<Customer> result = customerJpaGateway.saveAll(List.of(customer, other));
 
-        assertTrue(result.isPresent());
-        assertEquals(customer, result.get());
-        verify(customerRepository).findByCpf(cpf);
-        verify(customerMapper).toDomain(customerEntity);
+        assertEquals(List.of(customer, other), result);
+        verify(customerRepository).persistAll(List.of(customerEntity, otherEntity));
     }
 
     @Test
-    void findByCpfWhenNotExists() {
-        String cpf = "12345678901";
-        when(customerRepository.findByCpf(cpf)).thenReturn(Optional.empty());
+    void saveAllTranslatesCpfUniqueViolation() {
+        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+        when(customerRepository.persistAll(List.of(customerEntity))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", new SQLException(), "uk_customer_cpf")));
 
-        Optional<Customer> result = customerJpaGateway.findByCpf(cpf);
+        assertThrows(CpfAlreadyInRegisteredException.class, () -> customerJpaGateway.saveAll(List.of(customer)));
+    }
 
-        assertFalse(result.isPresent());
-        verify(customerRepository).findByCpf(cpf);
-        verify(customerMapper, never()).toDomain(any(CustomerEntity.class));
+    @Test
+    void findRegisteredCpfsInChunks() {
+        List<String> cpfs = IntStream.range(0, 2500)
+                .mapToObj(i -> String.format("%011d", i))
+                .toList();
+        when(customerRepository.findCpfsIn(any())).thenAnswer(invocation -> {
+            Collection<String> chunk = invocation.getArgument(0);
+            return chunk.contains("00000000007") ? List.of("00000000007") : List.of();
+        });
+
+        Set<String> result = customerJpaGateway.findRegisteredCpfs(cpfs);
+
+        assertEquals(Set.of("00000000007"), result);
+        verify(customerRepository, times(3)).findCpfsIn(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAllByIdInChunks() {
+        List<UUID> ids = IntStream.range(0, 1500)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+        when(customerRepository.findViews(any(Specification.class), eq(CustomerField.all()), eq(1000)))
+                .thenReturn(List.of(customerView));
+        when(customerRepository.findViews(any(Specification.class), eq(CustomerField.all()), eq(500)))
+                .thenReturn(List.of());
+
+        List<CustomerView> result = customerJpaGateway.findAllById(ids);
+
+        assertEquals(List.of(customerView), result);
+        verify(customerRepository, times(2)).findViews(any(Specification.class), eq(CustomerField.all()), anyInt());
+        verifyNoInteractions(customerMapper);
     }
 
     @Test
@@ -114,26 +229,131 @@ class CustomerJpaGatewayTest {
     }
 
     @Test
-    void findAll() {
-        List<CustomerEntity> entities = List.of(customerEntity);
-        when(customerRepository.findAll()).thenReturn(entities);
-        when(customerMapper.toDomain(customerEntity)).thenReturn(customer);
+    void existsByIdChecksTheRepositoryWithoutMapping() {
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.existsById(customerId)).thenReturn(true);
 
-        List<Customer> result = customerJpaGateway.findAll();
+        assertTrue(customerJpaGateway.existsById(customerId));
+        verify(customerRepository, never()).findById(any());
+        verifyNoInteractions(customerMapper);
+    }
 
-        assertEquals(1, result.size());
-        assertEquals(customer, result.get(0));
-        verify(customerRepository).findAll();
-        verify(customerMapper).toDomain(customerEntity);
+    @Test
+    void findViewByIdSkipsEntityMapping() {
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.findViewById(customerId)).thenReturn(Optional.of(customerView));
+
+        Optional<CustomerView> result = customerJpaGateway.findViewById(customerId);
+
+        assertEquals(Optional.of(customerView), result);
+        verify(customerRepository, never()).findById(any());
+        verifyNoInteractions(customerMapper);
     }
 
     @Test
-    void delete() {
-        when(customerMapper.toEntity(customer)).thenReturn(customerEntity);
+    @SuppressWarnings("unchecked")
+    void findViewByIdWithSelectedFields() {
+        UUID customerId = UUID.randomUUID();
+        Set<CustomerField> fields = EnumSet.of(CustomerField.FULL_NAME);
+        when(customerRepository.findViews(any(Specification.class), eq(fields), eq(1))).thenReturn(List.of(customerView));
+
+        Optional<CustomerView> result = customerJpaGateway.findViewById(customerId, fields);
+
+        assertEquals(Optional.of(customerView), result);
+        verify(customerRepository, never()).findViewById(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findFirstPage() {
+        when(customerRepository.findViews(any(Specification.class), eq(CustomerField.all()), eq(10)))
+                .thenReturn(List.of(customerView));
 
-        customerJpaGateway.delete(customer);
+        List<CustomerView> result = customerJpaGateway.findPage(CustomerFilter.none(), null, 10, CustomerField.all());
+
+        assertEquals(List.of(customerView), result);
+        verify(customerRepository).findViews(any(Specification.class), eq(CustomerField.all()), eq(10));
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findPageAfterCursor() {
+        UUID after = UUID.randomUUID();
+        when(customerRepository.findViews(any(Specification.class), eq(CustomerField.all()), eq(10)))
+                .thenReturn(List.of(customerView));
+
+        List<CustomerView> result = customerJpaGateway.findPage(CustomerFilter.none(), after, 10, CustomerField.all());
+
+        assertEquals(List.of(customerView), result);
+    }
+
+    @Test
+    void searchByName() {
+        when(customerRepository.searchByName("Maria", 20)).thenReturn(List.of(customerEntity));
+        when(customerMapper.toView(customerEntity)).thenReturn(customerView);
+
+        List<CustomerView> result = customerJpaGateway.searchByName("Maria", 20);
+
+        assertEquals(List.of(customerView), result);
+        verify(customerMapper, never()).toDomain(any(CustomerEntity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findFilteredPage() {
+        CustomerFilter filter = new CustomerFilter("SP", "São Paulo", null, null);
+        when(customerRepository.findViews(any(Specification.class), eq(CustomerField.all()), eq(10)))
+                .thenReturn(List.of(customerView));
+
+        List<CustomerView> result = customerJpaGateway.findPage(filter, null, 10, CustomerField.all());
+
+        assertEquals(List.of(customerView), result);
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void countFiltered() {
+        when(customerRepository.count(any(Specification.class))).thenReturn(7L);
+
+        assertEquals(7L, customerJpaGateway.count(new CustomerFilter("SP", null, null, null)));
+    }
+
+    @Test
+    void approximateCount() {
+        when(customerRepository.estimateCount()).thenReturn(42L);
+
+        assertEquals(42L, customerJpaGateway.approximateCount());
+        verify(customerRepository).estimateCount();
+    }
+
+    @Test
+    void streamAll() {
+        when(customerRepository.streamAll()).thenReturn(Stream.of(customerView, customerView));
+
+        try (Stream<CustomerView> result = customerJpaGateway.streamAll()) {
+            assertEquals(List.of(customerView, customerView), result.toList());
+        }
+        verify(customerRepository).streamAll();
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    void deleteByIdWhenExists() {
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.deleteCustomerById(customerId)).thenReturn(1);
+
+        assertTrue(customerJpaGateway.deleteById(customerId));
+        verify(customerRepository).deleteCustomerById(customerId);
+        verifyNoInteractions(customerMapper);
+    }
+
+    @Test
+    void deleteByIdWhenNotExists() {
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.deleteCustomerById(customerId)).thenReturn(0);
 
-        verify(customerMapper).toEntity(customer);
-        verify(customerRepository).delete(customerEntity);
+        assertFalse(customerJpaGateway.deleteById(customerId));
     }
 }
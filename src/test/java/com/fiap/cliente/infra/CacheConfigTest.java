@@ -0,0 +1,162 @@
+package com.fiap.cliente.infra;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.CustomerGateway;
+import com.fiap.cliente.gateway.database.jpa.CustomerJpaGateway;
+import com.fiap.cliente.gateway.database.jpa.repository.CustomerRepository;
+import com.fiap.cliente.mapper.CustomerMapper;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, CustomerJpaGateway.class})
+@TestPropertySource(properties = {
+        "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=60s",
+        "customer.cache.json-spec=maximumSize=100,expireAfterWrite=60s"
+})
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class CacheConfigTest {
+
+    private static final int CONCURRENT_READERS = 16;
+
+    @MockitoBean
+    CustomerRepository customerRepository;
+
+    @MockitoBean
+    CustomerMapper customerMapper;
+
+    @Autowired
+    CustomerGateway customerGateway;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    final ExecutorService executor = Executors.newCachedThreadPool();
+    final CountDownLatch loading = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+        cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+    }
+
+    @Test
+    void concurrentMissesForOneIdLoadOnce() throws Exception {
+        UUID customerId = UUID.randomUUID();
+        CustomerView customer = view(customerId);
+        when(customerRepository.findViewById(customerId)).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return Optional.of(customer);
+        });
+
+        List<Thread> readers = new ArrayList<>();
+        List<Future<Optional<CustomerView>>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_READERS; i++) {
+            results.add(executor.submit(() -> {
+                synchronized (readers) {
+                    readers.add(Thread.currentThread());
+                }
+                return customerGateway.findViewById(customerId);
+            }));
+        }
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        awaitAllParked(readers);
+        release.countDown();
+
+        for (Future<Optional<CustomerView>> result : results) {
+            assertEquals(Optional.of(customer), result.get(10, TimeUnit.SECONDS));
+        }
+        verify(customerRepository, times(1)).findViewById(customerId);
+    }
+
+    @Test
+    void concurrentMissesForDifferentIdsLoadInParallelOffTheCommonPool() throws Exception {
+        CountDownLatch allLoading = new CountDownLatch(CONCURRENT_READERS);
+        List<Thread> loaders = new ArrayList<>();
+        when(customerRepository.findViewById(any())).thenAnswer(invocation -> {
+            synchronized (loaders) {
+                loaders.add(Thread.currentThread());
+            }
+            allLoading.countDown();
+            assertTrue(allLoading.await(10, TimeUnit.SECONDS));
+            return Optional.of(view(invocation.getArgument(0)));
+        });
+
+        List<Future<Optional<CustomerView>>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_READERS; i++) {
+            UUID customerId = UUID.randomUUID();
+            results.add(executor.submit(() -> customerGateway.findViewById(customerId)));
+        }
+
+        for (Future<Optional<CustomerView>> result : results) {
+            assertTrue(result.get(15, TimeUnit.SECONDS).isPresent());
+        }
+        assertTrue(loaders.stream().noneMatch(ForkJoinWorkerThread.class::isInstance));
+    }
+
+    @Test
+    void evictionDoesNotWaitForAnInFlightLoadAndDropsItsResult() throws Exception {
+        UUID customerId = UUID.randomUUID();
+        when(customerRepository.findViewById(customerId)).thenAnswer(invocation -> {
+            if (loading.getCount() > 0) {
+                loading.countDown();
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+            }
+            return Optional.of(view(customerId));
+        });
+        when(customerRepository.deleteCustomerById(customerId)).thenReturn(1);
+
+        Future<Optional<CustomerView>> stale = executor.submit(() -> customerGateway.findViewById(customerId));
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+        assertTrue(executor.submit(() -> customerGateway.deleteById(customerId)).get(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(stale.get(10, TimeUnit.SECONDS).isPresent());
+
+        customerGateway.findViewById(customerId);
+        verify(customerRepository, times(2)).findViewById(customerId);
+    }
+
+    private static void awaitAllParked(List<Thread> readers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            synchronized (readers) {
+                if (readers.size() == CONCURRENT_READERS && readers.stream()
+                        .allMatch(thread -> thread.getState() != Thread.State.RUNNABLE)) {
+                    return;
+                }
+            }
+            Thread.sleep(10);
+        }
+        fail("Readers did not all block on the in-flight load");
+    }
+
+    private static CustomerView view(UUID customerId) {
+        return new CustomerView(customerId, "Maria Souza", "12345678909", LocalDate.of(1990, 5, 15),
+                null, null, null, null, null, 0L);
+    }
+}
@@ -0,0 +1,117 @@
+package com.fiap.cliente.infra;
+
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import com.fiap.cliente.usecase.RetrieveCustomerByIdUseCase;
+import com.fiap.cliente.usecase.UpdateCustomerUseCase;
+import com.fiap.cliente.usecase.reactive.ReactiveRetrieveCustomerByIdUseCase;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class MetricsAspectTest {
+
+    @Mock
+    CustomerGateway customerGateway;
+
+    @Mock
+    ReactiveCustomerGateway reactiveCustomerGateway;
+
+    SimpleMeterRegistry meterRegistry;
+    MetricsAspect metricsAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricsAspect = new MetricsAspect(meterRegistry);
+    }
+
+    @Test
+    void tagUseCaseAndGatewayTimersWithOutcome() {
+        UUID customerId = UUID.randomUUID();
+        CustomerView customer = new CustomerView(customerId, "Maria Souza", "12345678909", null,
+                null, null, null, null, null, 0L);
+        when(customerGateway.findViewById(any(UUID.class))).thenAnswer(invocation ->
+                customerId.equals(invocation.getArgument(0)) ? Optional.of(customer) : Optional.empty());
+        RetrieveCustomerByIdUseCase useCase = proxy(new RetrieveCustomerByIdUseCase(proxy(customerGateway)));
+
+        assertEquals(customer, useCase.execute(customerId));
+        assertThrows(CustomerNotFoundException.class, () -> useCase.execute(UUID.randomUUID()));
+
+        assertEquals(1, useCaseTimer("RetrieveCustomerByIdUseCase", MetricsAspect.OUTCOME_OK).count());
+        assertEquals(1, useCaseTimer("RetrieveCustomerByIdUseCase", MetricsAspect.OUTCOME_NOT_FOUND).count());
+        assertEquals(1, gatewayTimer("findViewById", MetricsAspect.OUTCOME_OK).count());
+        assertEquals(1, gatewayTimer("findViewById", MetricsAspect.OUTCOME_NO_MATCH).count());
+    }
+
+    @Test
+    void tagStaleVersionAsConflictAndTheGatewayMissAsNoMatch() {
+        UUID customerId = UUID.randomUUID();
+        Customer staleCustomer = new Customer(customerId, "Maria Souza", "12345678909",
+                LocalDate.of(1990, 5, 15), null, 1L);
+        when(customerGateway.update(staleCustomer)).thenReturn(false);
+        when(customerGateway.existsById(customerId)).thenReturn(true);
+        UpdateCustomerUseCase useCase = proxy(new UpdateCustomerUseCase(proxy(customerGateway)));
+
+        assertThrows(CustomerVersionMismatchException.class, () -> useCase.execute(staleCustomer));
+
+        assertEquals(1, useCaseTimer("UpdateCustomerUseCase", MetricsAspect.OUTCOME_CONFLICT).count());
+        assertNull(meterRegistry.find(MetricsAspect.USE_CASE_TIMER)
+                .tags("outcome", MetricsAspect.OUTCOME_NOT_FOUND).timer());
+        assertEquals(1, gatewayTimer("update", MetricsAspect.OUTCOME_NO_MATCH).count());
+    }
+
+    @Test
+    void timeReactiveCallsOnlyOnceSubscribed() {
+        UUID customerId = UUID.randomUUID();
+        when(reactiveCustomerGateway.findViewById(customerId)).thenReturn(Mono.empty());
+        ReactiveRetrieveCustomerByIdUseCase useCase =
+                proxy(new ReactiveRetrieveCustomerByIdUseCase(proxy(reactiveCustomerGateway)));
+
+        Mono<CustomerView> result = useCase.execute(customerId);
+
+        assertNull(meterRegistry.find(MetricsAspect.USE_CASE_TIMER).timer());
+        StepVerifier.create(result)
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+        assertEquals(1, useCaseTimer("ReactiveRetrieveCustomerByIdUseCase", MetricsAspect.OUTCOME_NOT_FOUND).count());
+        assertEquals(1, gatewayTimer("findViewById", MetricsAspect.OUTCOME_NO_MATCH).count());
+    }
+
+    private Timer useCaseTimer(String useCase, String outcome) {
+        return meterRegistry.get(MetricsAspect.USE_CASE_TIMER).tags("usecase", useCase, "outcome", outcome).timer();
+    }
+
+    private Timer gatewayTimer(String method, String outcome) {
+        return meterRegistry.get(MetricsAspect.GATEWAY_TIMER).tags("method", method, "outcome", outcome).timer();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(metricsAspect);
+        return (T) factory.getProxy();
+    }
+}
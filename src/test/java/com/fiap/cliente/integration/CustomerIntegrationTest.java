@@ -1,33 +1,67 @@
 package com.fiap.cliente.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fiap.cliente.controller.json.AddressDTO;
+import com.fiap.cliente.controller.json.CustomerBatchItemDTO;
+import com.fiap.cliente.controller.json.CustomerBatchResponseDTO;
+import com.fiap.cliente.controller.json.CustomerLookupResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPatchDTO;
 import com.fiap.cliente.controller.json.CustomerRequestDTO;
 import com.fiap.cliente.controller.json.CustomerResponseDTO;
 import com.fiap.cliente.gateway.database.jpa.repository.CustomerRepository;
+import com.fiap.cliente.infra.BinaryFormatsConfig;
+import com.fiap.cliente.infra.CacheConfig;
+import com.fiap.cliente.support.Cpfs;
+import com.fiap.cliente.support.SqlStatementCounter;
+import com.fiap.cliente.usecase.RetrieveCustomersByIdsUseCase;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("test")
 @FieldDefaults(level = AccessLevel.PRIVATE)
 class CustomerIntegrationTest {
@@ -41,6 +75,12 @@ class CustomerIntegrationTest {
     @Autowired
     CustomerRepository customerRepository;
 
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     String baseUrl;
     HttpHeaders headers;
 
@@ -54,6 +94,8 @@ class CustomerIntegrationTest {
     @AfterEach
     void tearDown() {
         customerRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE).clear();
+        cacheManager.getCache(CacheConfig.CUSTOMER_JSON_CACHE).clear();
     }
 
     @Test
@@ -61,7 +103,7 @@ class CustomerIntegrationTest {
         AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
         CustomerRequestDTO createRequest = new CustomerRequestDTO(
             "Maria Silva",
-            "12345678901",
+            "12345678909",
             LocalDate.of(1990, 5, 15),
             addressDTO
         );
@@ -73,7 +115,7 @@ class CustomerIntegrationTest {
         assertEquals(HttpStatus.CREATED, createResponse.getStatusCode());
         assertNotNull(createResponse.getBody());
         assertEquals("Maria Silva", createResponse.getBody().getFullName());
-        assertEquals("12345678901", createResponse.getBody().getCpf());
+        assertEquals("12345678909", createResponse.getBody().getCpf());
 
         UUID customerId = createResponse.getBody().getId();
         assertNotNull(customerId);
@@ -83,15 +125,15 @@ class CustomerIntegrationTest {
         assertEquals(HttpStatus.OK, getResponse.getStatusCode());
         assertEquals("Maria Silva", getResponse.getBody().getFullName());
 
-        ResponseEntity<CustomerResponseDTO[]> getAllResponse = restTemplate.getForEntity(
-            baseUrl, CustomerResponseDTO[].class);
+        ResponseEntity<CustomerPageResponseDTO> getAllResponse = restTemplate.getForEntity(
+            baseUrl, CustomerPageResponseDTO.class);
         assertEquals(HttpStatus.OK, getAllResponse.getStatusCode());
-        assertEquals(1, getAllResponse.getBody().length);
+        assertEquals(1, getAllResponse.getBody().getItems().size());
 
         AddressDTO updatedAddressDTO = new AddressDTO("Rua B", "456", "Rio de Janeiro", "RJ", "87654321");
         CustomerRequestDTO updateRequest = new CustomerRequestDTO(
             "Maria Santos Silva",
-            "12345678901",
+            "12345678909",
             LocalDate.of(1990, 5, 15),
             updatedAddressDTO
         );
@@ -115,6 +157,169 @@ class CustomerIntegrationTest {
         assertEquals(0, customerRepository.count());
     }
 
+    @Test
+    void paginateCustomersWithCursor() {
+        for (String cpf : List.of("11144477735", "52998224725", "93541134780")) {
+            AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+            CustomerRequestDTO request = new CustomerRequestDTO("Cliente " + cpf, cpf, LocalDate.of(1990, 5, 15), addressDTO);
+            restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class);
+        }
+
+        ResponseEntity<CustomerPageResponseDTO> firstPage = restTemplate.getForEntity(
+            baseUrl + "?limit=2&includeTotal=true", CustomerPageResponseDTO.class);
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertEquals(2, firstPage.getBody().getItems().size());
+        assertNotNull(firstPage.getBody().getNextCursor());
+        assertEquals(3L, firstPage.getBody().getApproximateTotal());
+
+        ResponseEntity<CustomerPageResponseDTO> secondPage = restTemplate.getForEntity(
+            baseUrl + "?limit=2&after=" + firstPage.getBody().getNextCursor(), CustomerPageResponseDTO.class);
+        assertEquals(HttpStatus.OK, secondPage.getStatusCode());
+        assertEquals(1, secondPage.getBody().getItems().size());
+        assertNull(secondPage.getBody().getNextCursor());
+        assertNull(secondPage.getBody().getApproximateTotal());
+
+        Set<UUID> ids = new HashSet<>();
+        firstPage.getBody().getItems().forEach(customer -> ids.add(customer.getId()));
+        secondPage.getBody().getItems().forEach(customer -> ids.add(customer.getId()));
+        assertEquals(3, ids.size());
+        assertTrue(ids.stream().allMatch(id -> id.version() == 7));
+
+        // time-ordered ids: the cursor walks customers in creation order
+        assertEquals(List.of("11144477735", "52998224725"),
+            firstPage.getBody().getItems().stream().map(CustomerResponseDTO::getCpf).toList());
+        assertEquals("93541134780", secondPage.getBody().getItems().get(0).getCpf());
+    }
+
+    @Test
+    void paginateCustomersWithInvalidCursor() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            baseUrl + "?after=not-a-cursor", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void exportCustomersAsNdjson() {
+        for (String cpf : List.of("11144477735", "52998224725")) {
+            AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+            CustomerRequestDTO request = new CustomerRequestDTO("Cliente " + cpf, cpf, LocalDate.of(1990, 5, 15), addressDTO);
+            restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class);
+        }
+
+        ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/export", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        String[] lines = response.getBody().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"cpf\""));
+    }
+
+    @Test
+    void exportAndSearchRowsStoredBeforeCheckDigitValidation() {
+        UUID legacyId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO customers (id, full_name, cpf, birth_date, version) VALUES (?, ?, ?, ?, 0)",
+            legacyId, "Cliente Legado", 12345678900L, LocalDate.of(1980, 1, 1));
+
+        ResponseEntity<String> export = restTemplate.getForEntity(baseUrl + "/export", String.class);
+        assertEquals(HttpStatus.OK, export.getStatusCode());
+        assertTrue(export.getBody().contains(legacyId.toString()) && export.getBody().contains("\"12345678900\""));
+
+        ResponseEntity<CustomerResponseDTO[]> search = restTemplate.getForEntity(
+            baseUrl + "/search?name=cliente", CustomerResponseDTO[].class);
+        assertEquals(HttpStatus.OK, search.getStatusCode());
+        assertEquals(List.of("12345678900"), List.of(search.getBody()).stream().map(CustomerResponseDTO::getCpf).toList());
+    }
+
+    @Test
+    void staleIfMatchAndEmptyPatchOnRowsStoredBeforeCheckDigitValidation() {
+        UUID legacyId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO customers (id, full_name, cpf, birth_date, version) VALUES (?, ?, ?, ?, 3)",
+            legacyId, "Cliente Legado", 12345678900L, LocalDate.of(1980, 1, 1));
+        String customerUrl = baseUrl + "/" + legacyId;
+
+        HttpHeaders ifMatch = new HttpHeaders();
+        ifMatch.setContentType(MediaType.APPLICATION_JSON);
+        ifMatch.setIfMatch("\"1\"");
+        CustomerRequestDTO updateRequest = new CustomerRequestDTO("Cliente Legado", "12345678909", LocalDate.of(1980, 1, 1), null);
+        ResponseEntity<String> stale = restTemplate.exchange(customerUrl, HttpMethod.PUT,
+            new HttpEntity<>(updateRequest, ifMatch), String.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stale.getStatusCode());
+
+        ResponseEntity<Void> emptyPatch = restTemplate.exchange(customerUrl, HttpMethod.PATCH,
+            new HttpEntity<>(new CustomerPatchDTO(null, null, null, null), headers), Void.class);
+        assertEquals(HttpStatus.NO_CONTENT, emptyPatch.getStatusCode());
+    }
+
+    @Test
+    void createCustomersInBatch() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        restTemplate.postForEntity(baseUrl,
+            new HttpEntity<>(new CustomerRequestDTO("Ja Cadastrado", "11144477735", LocalDate.of(1990, 5, 15), addressDTO), headers),
+            CustomerResponseDTO.class);
+
+        List<CustomerRequestDTO> batch = Arrays.asList(
+            new CustomerRequestDTO("Ja Cadastrado", "11144477735", LocalDate.of(1990, 5, 15), addressDTO),
+            new CustomerRequestDTO("Novo Cliente", "52998224725", LocalDate.of(1991, 6, 16), addressDTO),
+            new CustomerRequestDTO("CPF Invalido", "123", LocalDate.of(1992, 7, 17), addressDTO),
+            new CustomerRequestDTO("Repetido no Lote", "52998224725", LocalDate.of(1993, 8, 18), addressDTO),
+            new CustomerRequestDTO("Outro Cliente", "93541134780", LocalDate.of(1994, 9, 19), addressDTO),
+            new CustomerRequestDTO(null, Cpfs.valid(1), LocalDate.of(1995, 10, 20), addressDTO),
+            new CustomerRequestDTO("Sem Nascimento", Cpfs.valid(2), null, addressDTO),
+            null
+        );
+
+        SqlStatementCounter.reset();
+        ResponseEntity<CustomerBatchResponseDTO> response = restTemplate.postForEntity(
+            baseUrl + "/batch", new HttpEntity<>(batch, headers), CustomerBatchResponseDTO.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SqlStatementCounter.assertStatements(1, 1, 0, 0);
+        CustomerBatchResponseDTO body = response.getBody();
+        assertEquals(2, body.getCreated());
+        assertEquals(2, body.getDuplicates());
+        assertEquals(4, body.getInvalid());
+        assertEquals(List.of("DUPLICATE", "CREATED", "INVALID", "DUPLICATE", "CREATED", "INVALID", "INVALID", "INVALID"),
+            body.getItems().stream().map(CustomerBatchItemDTO::getStatus).toList());
+        assertNotNull(body.getItems().get(1).getId());
+        assertEquals(3, customerRepository.count());
+
+        ResponseEntity<CustomerResponseDTO> created = restTemplate.getForEntity(
+            baseUrl + "/" + body.getItems().get(4).getId(), CustomerResponseDTO.class);
+        assertEquals("Outro Cliente", created.getBody().getFullName());
+    }
+
+    @Test
+    void cacheCustomerByIdAndInvalidateAfterUpdate() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        UUID customerId = restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class)
+            .getBody().getId();
+        Cache cache = cacheManager.getCache(CacheConfig.CUSTOMERS_CACHE);
+        Cache jsonCache = cacheManager.getCache(CacheConfig.CUSTOMER_JSON_CACHE);
+
+        HttpHeaders jsonHeaders = new HttpHeaders();
+        jsonHeaders.setAccept(List.of(MediaType.APPLICATION_JSON));
+        HttpEntity<Void> acceptJson = new HttpEntity<>(jsonHeaders);
+        String first = restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.GET, acceptJson, String.class).getBody();
+        String second = restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.GET, acceptJson, String.class).getBody();
+        assertEquals(first, second);
+        assertNotNull(cache.get(customerId));
+        assertNotNull(jsonCache.get(customerId));
+
+        CustomerRequestDTO updateRequest = new CustomerRequestDTO("Maria Santos", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.PUT, new HttpEntity<>(updateRequest, headers), CustomerResponseDTO.class);
+        assertNull(cache.get(customerId));
+        assertNull(jsonCache.get(customerId));
+
+        ResponseEntity<CustomerResponseDTO> afterUpdate = restTemplate.getForEntity(baseUrl + "/" + customerId, CustomerResponseDTO.class);
+        assertEquals("Maria Santos", afterUpdate.getBody().getFullName());
+
+        ResponseEntity<String> hits = restTemplate.getForEntity(
+            "http://localhost:" + port + "/actuator/metrics/cache.gets?tag=cache:customers&tag=result:hit", String.class);
+        assertEquals(HttpStatus.OK, hits.getStatusCode());
+    }
+
     @Test
     void createCustomerWithInvalidCpf() {
         AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
@@ -136,7 +341,7 @@ class CustomerIntegrationTest {
         AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "123");
         CustomerRequestDTO request = new CustomerRequestDTO(
             "Maria Silva",
-            "12345678901",
+            "12345678909",
             LocalDate.of(1990, 5, 15),
             addressDTO
         );
@@ -152,7 +357,7 @@ class CustomerIntegrationTest {
         AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
         CustomerRequestDTO request = new CustomerRequestDTO(
             "Maria Silva",
-            "12345678901",
+            "12345678909",
             LocalDate.of(1990, 5, 15),
             addressDTO
         );
@@ -168,6 +373,67 @@ class CustomerIntegrationTest {
         assertEquals(HttpStatus.CONFLICT, secondResponse.getStatusCode());
     }
 
+    @Test
+    void concurrentCreatesWithSameCpfRegisterOnlyOnce() throws Exception {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        HttpEntity<CustomerRequestDTO> entity = new HttpEntity<>(request, headers);
+        int attempts = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        List<HttpStatusCode> statuses = new ArrayList<>();
+        try {
+            List<Future<HttpStatusCode>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(() -> restTemplate.postForEntity(baseUrl, entity, String.class).getStatusCode()));
+            }
+            for (Future<HttpStatusCode> future : futures) {
+                statuses.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, statuses.stream().filter(HttpStatus.CREATED::equals).count());
+        assertEquals(attempts - 1, statuses.stream().filter(HttpStatus.CONFLICT::equals).count());
+        assertEquals(1, customerRepository.count());
+    }
+
+    @Test
+    void concurrentReadsOfOneUncachedCustomerRunOneSelect() throws Exception {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        String url = baseUrl + "/" + restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class)
+            .getBody().getId();
+        int readers = 16;
+        HttpHeaders jsonHeaders = new HttpHeaders();
+        jsonHeaders.setAccept(List.of(MediaType.APPLICATION_JSON));
+        HttpEntity<Void> json = new HttpEntity<>(jsonHeaders);
+
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<HttpStatusCode> statuses = new ArrayList<>();
+        SqlStatementCounter.reset();
+        try {
+            List<Future<HttpStatusCode>> futures = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return restTemplate.exchange(url, HttpMethod.GET, json, String.class).getStatusCode();
+                }));
+            }
+            start.countDown();
+            for (Future<HttpStatusCode> future : futures) {
+                statuses.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(statuses.stream().allMatch(HttpStatus.OK::equals));
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+    }
+
     @Test
     void retrieveNonExistentCustomer() {
         UUID nonExistentId = UUID.randomUUID();
@@ -183,7 +449,7 @@ class CustomerIntegrationTest {
         AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
         CustomerRequestDTO request = new CustomerRequestDTO(
             "Maria Silva",
-            "12345678901",
+            "12345678909",
             LocalDate.of(1990, 5, 15),
             addressDTO
         );
@@ -194,6 +460,314 @@ class CustomerIntegrationTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    void createAndGetCustomerWithinStatementBudget() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+
+        SqlStatementCounter.reset();
+        UUID customerId = restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class)
+            .getBody().getId();
+        SqlStatementCounter.assertStatements(0, 1, 0, 0);
+
+        SqlStatementCounter.reset();
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity(baseUrl + "/" + customerId, CustomerResponseDTO.class).getStatusCode());
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+
+        SqlStatementCounter.reset();
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity(baseUrl + "/" + customerId, CustomerResponseDTO.class).getStatusCode());
+        SqlStatementCounter.assertStatements(0, 0, 0, 0);
+    }
+
+    @Test
+    void listCustomersWithinStatementBudget() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        for (int i = 0; i < 5; i++) {
+            CustomerRequestDTO request = new CustomerRequestDTO("Cliente " + i, Cpfs.valid(i), LocalDate.of(1990, 5, 15), addressDTO);
+            restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class);
+        }
+
+        SqlStatementCounter.reset();
+        ResponseEntity<CustomerPageResponseDTO> firstPage = restTemplate.getForEntity(baseUrl + "?limit=2", CustomerPageResponseDTO.class);
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+
+        SqlStatementCounter.reset();
+        ResponseEntity<CustomerPageResponseDTO> secondPage = restTemplate.getForEntity(
+            baseUrl + "?limit=2&includeTotal=true&after=" + firstPage.getBody().getNextCursor(), CustomerPageResponseDTO.class);
+        assertEquals(HttpStatus.OK, secondPage.getStatusCode());
+        SqlStatementCounter.assertStatements(2, 0, 0, 0);
+    }
+
+    @Test
+    void lookupCustomersByIdsWithinStatementBudget() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CustomerRequestDTO request = new CustomerRequestDTO("Cliente " + i, Cpfs.valid(i), LocalDate.of(1990, 5, 15), addressDTO);
+            ids.add(restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class).getBody().getId());
+        }
+        UUID missingId = UUID.randomUUID();
+
+        SqlStatementCounter.reset();
+        ResponseEntity<CustomerLookupResponseDTO> response = restTemplate.postForEntity(baseUrl + "/lookup",
+            new HttpEntity<>(List.of(ids.get(2), missingId, ids.get(0), ids.get(2)), headers), CustomerLookupResponseDTO.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(ids.get(2), ids.get(0)),
+            response.getBody().getItems().stream().map(CustomerResponseDTO::getId).toList());
+        assertEquals("Cliente 2", response.getBody().getItems().get(0).getFullName());
+        assertEquals(List.of(missingId), response.getBody().getMissing());
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+
+        List<UUID> tooMany = new ArrayList<>();
+        for (int i = 0; i <= RetrieveCustomersByIdsUseCase.MAX_IDS; i++) {
+            tooMany.add(UUID.randomUUID());
+        }
+        ResponseEntity<String> tooLarge = restTemplate.postForEntity(baseUrl + "/lookup",
+            new HttpEntity<>(tooMany, headers), String.class);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, tooLarge.getStatusCode());
+    }
+
+    @Test
+    void searchCustomersByNamePrefixIgnoringCase() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        List<String> names = List.of("Mariana Costa", "Maria Silva", "Marcos Lima", "Ana Maria Souza", "Mar_ia Falsa");
+        for (int i = 0; i < names.size(); i++) {
+            CustomerRequestDTO request = new CustomerRequestDTO(names.get(i), Cpfs.valid(i), LocalDate.of(1990, 5, 15), addressDTO);
+            restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class);
+        }
+
+        SqlStatementCounter.reset();
+        ResponseEntity<CustomerResponseDTO[]> response = restTemplate.getForEntity(
+            baseUrl + "/search?name=MARIA&limit=10", CustomerResponseDTO[].class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("Maria Silva", "Mariana Costa"),
+            List.of(response.getBody()).stream().map(CustomerResponseDTO::getFullName).toList());
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+
+        ResponseEntity<CustomerResponseDTO[]> limited = restTemplate.getForEntity(
+            baseUrl + "/search?name=mar&limit=1", CustomerResponseDTO[].class);
+        assertEquals(1, limited.getBody().length);
+
+        ResponseEntity<CustomerResponseDTO[]> wildcard = restTemplate.getForEntity(
+            baseUrl + "/search?name=mar_i", CustomerResponseDTO[].class);
+        assertEquals(List.of("Mar_ia Falsa"),
+            List.of(wildcard.getBody()).stream().map(CustomerResponseDTO::getFullName).toList());
+
+        ResponseEntity<String> tooShort = restTemplate.getForEntity(baseUrl + "/search?name=ma", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, tooShort.getStatusCode());
+    }
+
+    @Test
+    void listCustomersFilteredByStateCityAndBirthDate() {
+        List<CustomerRequestDTO> requests = List.of(
+            new CustomerRequestDTO("Ana Recife", "00000000191", LocalDate.of(1985, 1, 10), new AddressDTO("Rua A", "1", "Recife", "PE", "01234567")),
+            new CustomerRequestDTO("Bia Recife", "00000000272", LocalDate.of(1995, 6, 20), new AddressDTO("Rua B", "2", "Recife", "PE", "01234567")),
+            new CustomerRequestDTO("Caio Olinda", "00000000353", LocalDate.of(1990, 3, 5), new AddressDTO("Rua C", "3", "Olinda", "PE", "01234567")),
+            new CustomerRequestDTO("Davi Paulo", "00000000434", LocalDate.of(1990, 3, 5), new AddressDTO("Rua D", "4", "São Paulo", "SP", "01234567"))
+        );
+        requests.forEach(request -> restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class));
+
+        SqlStatementCounter.reset();
+        ResponseEntity<CustomerPageResponseDTO> byState = restTemplate.getForEntity(
+            baseUrl + "?state=PE&limit=2&includeTotal=true", CustomerPageResponseDTO.class);
+        assertEquals(HttpStatus.OK, byState.getStatusCode());
+        assertEquals(2, byState.getBody().getItems().size());
+        assertEquals(3L, byState.getBody().getApproximateTotal());
+        assertNotNull(byState.getBody().getNextCursor());
+        SqlStatementCounter.assertStatements(2, 0, 0, 0);
+
+        ResponseEntity<CustomerPageResponseDTO> nextPage = restTemplate.getForEntity(
+            baseUrl + "?state=PE&limit=2&after=" + byState.getBody().getNextCursor(), CustomerPageResponseDTO.class);
+        assertEquals(1, nextPage.getBody().getItems().size());
+        assertNull(nextPage.getBody().getNextCursor());
+
+        ResponseEntity<CustomerPageResponseDTO> byCityAndBirth = restTemplate.getForEntity(
+            baseUrl + "?state=PE&city=Recife&bornAfter=1990-01-01&bornBefore=1999-12-31", CustomerPageResponseDTO.class);
+        assertEquals(List.of("Bia Recife"),
+            byCityAndBirth.getBody().getItems().stream().map(CustomerResponseDTO::getFullName).toList());
+
+        ResponseEntity<CustomerPageResponseDTO> byBirthDate = restTemplate.getForEntity(
+            baseUrl + "?bornAfter=1990-03-05&bornBefore=1990-03-05", CustomerPageResponseDTO.class);
+        assertEquals(2, byBirthDate.getBody().getItems().size());
+    }
+
+    @Test
+    void returnOnlySelectedFieldsReadingOnlyTheirColumns() throws Exception {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        UUID customerId = restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class)
+            .getBody().getId();
+        ObjectMapper jsonMapper = new ObjectMapper();
+
+        SqlStatementCounter.reset();
+        ResponseEntity<String> byId = restTemplate.getForEntity(
+            baseUrl + "/" + customerId + "?fields=fullName,address.city", String.class);
+        assertEquals(HttpStatus.OK, byId.getStatusCode());
+        assertNotNull(byId.getHeaders().getETag());
+        assertEquals(jsonMapper.readTree("{\"fullName\":\"Maria Silva\",\"address\":{\"city\":\"São Paulo\"}}"),
+            jsonMapper.readTree(byId.getBody()));
+        SqlStatementCounter.assertStatements(1, 0, 0, 0);
+        String select = SqlStatementCounter.statements().get(0);
+        assertTrue(select.contains("full_name") && select.contains("city"), select);
+        assertFalse(select.contains("cpf") || select.contains("street") || select.contains("birth_date"), select);
+
+        ResponseEntity<String> page = restTemplate.getForEntity(baseUrl + "?fields=id&includeTotal=true", String.class);
+        assertEquals(HttpStatus.OK, page.getStatusCode());
+        assertEquals(jsonMapper.readTree("[{\"id\":\"" + customerId + "\"}]"), jsonMapper.readTree(page.getBody()).get("items"));
+        assertEquals(1, jsonMapper.readTree(page.getBody()).get("approximateTotal").asInt());
+
+        ResponseEntity<String> unknown = restTemplate.getForEntity(baseUrl + "?fields=id,password", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, unknown.getStatusCode());
+    }
+
+    @Test
+    void deleteCustomerWithSingleStatement() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        UUID customerId = restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class)
+            .getBody().getId();
+        SqlStatementCounter.reset();
+
+        ResponseEntity<Void> response = restTemplate.exchange(
+            baseUrl + "/" + customerId, HttpMethod.DELETE, null, Void.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        SqlStatementCounter.assertStatements(0, 0, 0, 1);
+        assertEquals(0, customerRepository.count());
+    }
+
+    @Test
+    void updateAndPatchCustomerWithOneUpdateStatement() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        UUID customerId = restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class)
+            .getBody().getId();
+        SqlStatementCounter.reset();
+        CustomerRequestDTO updateRequest = new CustomerRequestDTO("Maria Santos", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        ResponseEntity<CustomerResponseDTO> updateResponse = restTemplate.exchange(
+            baseUrl + "/" + customerId, HttpMethod.PUT, new HttpEntity<>(updateRequest, headers), CustomerResponseDTO.class);
+        assertEquals(HttpStatus.OK, updateResponse.getStatusCode());
+        assertEquals("\"1\"", updateResponse.getHeaders().getETag());
+        SqlStatementCounter.assertStatements(1, 0, 1, 0);
+
+        SqlStatementCounter.reset();
+        HttpHeaders ifMatch = new HttpHeaders();
+        ifMatch.setContentType(MediaType.APPLICATION_JSON);
+        ifMatch.setIfMatch(updateResponse.getHeaders().getETag());
+        CustomerPatchDTO patchRequest = new CustomerPatchDTO(null, null, null, new AddressDTO(null, null, "Olinda", "PE", null));
+        ResponseEntity<Void> patchResponse = restTemplate.exchange(
+            baseUrl + "/" + customerId, HttpMethod.PATCH, new HttpEntity<>(patchRequest, ifMatch), Void.class);
+        assertEquals(HttpStatus.NO_CONTENT, patchResponse.getStatusCode());
+        assertEquals("\"2\"", patchResponse.getHeaders().getETag());
+        SqlStatementCounter.assertStatements(0, 0, 1, 0);
+
+        ResponseEntity<String> stalePatch = restTemplate.exchange(
+            baseUrl + "/" + customerId, HttpMethod.PATCH, new HttpEntity<>(patchRequest, ifMatch), String.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stalePatch.getStatusCode());
+
+        CustomerResponseDTO customer = restTemplate.getForEntity(baseUrl + "/" + customerId, CustomerResponseDTO.class).getBody();
+        assertEquals("Maria Santos", customer.getFullName());
+        assertEquals("Rua A", customer.getAddress().getStreet());
+        assertEquals("Olinda", customer.getAddress().getCity());
+        assertEquals("PE", customer.getAddress().getState());
+        assertEquals("01234567", customer.getAddress().getZipCode());
+    }
+
+    @Test
+    void updateCustomerWithCpfOfAnotherCustomer() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        restTemplate.postForEntity(baseUrl,
+            new HttpEntity<>(new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO), headers),
+            CustomerResponseDTO.class);
+        UUID otherId = restTemplate.postForEntity(baseUrl,
+            new HttpEntity<>(new CustomerRequestDTO("Joao Silva", "98765432100", LocalDate.of(1985, 3, 20), addressDTO), headers),
+            CustomerResponseDTO.class).getBody().getId();
+
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/" + otherId, HttpMethod.PATCH,
+            new HttpEntity<>(new CustomerPatchDTO(null, "12345678909", null, null), headers), String.class);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void keepLeadingZerosOfCpfStoredAsNumber() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        UUID customerId = restTemplate.postForEntity(baseUrl,
+            new HttpEntity<>(new CustomerRequestDTO("Maria Silva", "00000000191", LocalDate.of(1990, 5, 15), addressDTO), headers),
+            CustomerResponseDTO.class).getBody().getId();
+
+        assertEquals("00000000191",
+            restTemplate.getForEntity(baseUrl + "/" + customerId, CustomerResponseDTO.class).getBody().getCpf());
+        assertEquals(HttpStatus.CONFLICT, restTemplate.postForEntity(baseUrl,
+            new HttpEntity<>(new CustomerRequestDTO("Joao Silva", "000.000.001-91", LocalDate.of(1985, 3, 20), addressDTO), headers),
+            String.class).getStatusCode());
+
+        restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.PATCH,
+            new HttpEntity<>(new CustomerPatchDTO(null, "00000000272", null, null), headers), String.class);
+
+        assertEquals(customerId, customerRepository.findByCpf("00000000272").orElseThrow().getId());
+        assertTrue(customerRepository.findByCpf("00000000191").isEmpty());
+        assertEquals(List.of("00000000272"), customerRepository.findCpfsIn(List.of("00000000191", "00000000272")));
+    }
+
+    @Test
+    void conditionalRequestsUseCustomerVersionAsETag() {
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        CustomerRequestDTO request = new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        UUID customerId = restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, headers), CustomerResponseDTO.class)
+            .getBody().getId();
+        String customerUrl = baseUrl + "/" + customerId;
+
+        HttpHeaders acceptJson = new HttpHeaders();
+        acceptJson.setAccept(List.of(MediaType.APPLICATION_JSON));
+        ResponseEntity<CustomerResponseDTO> firstGet = restTemplate.exchange(customerUrl, HttpMethod.GET,
+            new HttpEntity<>(acceptJson), CustomerResponseDTO.class);
+        String eTag = firstGet.getHeaders().getETag();
+        assertEquals("\"0\"", eTag);
+
+        HttpHeaders ifNoneMatch = new HttpHeaders();
+        ifNoneMatch.setAccept(List.of(MediaType.APPLICATION_JSON));
+        ifNoneMatch.setIfNoneMatch(eTag);
+        ResponseEntity<String> notModified = restTemplate.exchange(customerUrl, HttpMethod.GET, new HttpEntity<>(ifNoneMatch), String.class);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+
+        HttpHeaders ifMatch = new HttpHeaders();
+        ifMatch.setContentType(MediaType.APPLICATION_JSON);
+        ifMatch.setIfMatch(eTag);
+        CustomerRequestDTO updateRequest = new CustomerRequestDTO("Maria Santos", "12345678909", LocalDate.of(1990, 5, 15), addressDTO);
+        ResponseEntity<CustomerResponseDTO> updated = restTemplate.exchange(customerUrl, HttpMethod.PUT,
+            new HttpEntity<>(updateRequest, ifMatch), CustomerResponseDTO.class);
+        assertEquals(HttpStatus.OK, updated.getStatusCode());
+        assertEquals("\"1\"", updated.getHeaders().getETag());
+
+        ResponseEntity<String> lostUpdate = restTemplate.exchange(customerUrl, HttpMethod.PUT,
+            new HttpEntity<>(request, ifMatch), String.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, lostUpdate.getStatusCode());
+
+        ResponseEntity<CustomerResponseDTO> modified = restTemplate.exchange(customerUrl, HttpMethod.GET,
+            new HttpEntity<>(ifNoneMatch), CustomerResponseDTO.class);
+        assertEquals(HttpStatus.OK, modified.getStatusCode());
+        assertEquals("\"1\"", modified.getHeaders().getETag());
+        assertEquals("Maria Santos", modified.getBody().getFullName());
+
+        restTemplate.exchange(customerUrl, HttpMethod.PATCH,
+            new HttpEntity<>(new CustomerPatchDTO("Maria Souza", null, null, null), headers), Void.class);
+        assertEquals("\"2\"", restTemplate.exchange(customerUrl, HttpMethod.GET, new HttpEntity<>(acceptJson),
+            CustomerResponseDTO.class).getHeaders().getETag());
+    }
+
+    @Test
+    void patchNonExistentCustomer() {
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/" + UUID.randomUUID(), HttpMethod.PATCH,
+            new HttpEntity<>(new CustomerPatchDTO("Ninguem", null, null, null), headers), String.class);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
     @Test
     void deleteNonExistentCustomer() {
         UUID nonExistentId = UUID.randomUUID();
@@ -203,6 +777,94 @@ class CustomerIntegrationTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    void negotiateCborAndSmileRepresentations() throws Exception {
+        ObjectMapper cbor = new CBORMapper().findAndRegisterModules();
+        ObjectMapper smile = new SmileMapper().findAndRegisterModules();
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+        HttpHeaders smileHeaders = new HttpHeaders();
+        smileHeaders.setContentType(MediaType.parseMediaType(BinaryFormatsConfig.APPLICATION_SMILE_VALUE));
+        smileHeaders.setAccept(List.of(MediaType.parseMediaType(BinaryFormatsConfig.APPLICATION_SMILE_VALUE)));
+
+        ResponseEntity<byte[]> created = restTemplate.postForEntity(baseUrl, new HttpEntity<>(smile.writeValueAsBytes(
+            new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO)), smileHeaders), byte[].class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        UUID customerId = smile.readValue(created.getBody(), CustomerResponseDTO.class).getId();
+
+        HttpHeaders cborHeaders = new HttpHeaders();
+        cborHeaders.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        ResponseEntity<byte[]> customer = restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.GET,
+            new HttpEntity<>(cborHeaders), byte[].class);
+        assertEquals(HttpStatus.OK, customer.getStatusCode());
+        assertEquals(MediaType.APPLICATION_CBOR, customer.getHeaders().getContentType());
+        assertEquals("\"0-cbor\"", customer.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT), customer.getHeaders().getVary());
+        CustomerResponseDTO decoded = cbor.readValue(customer.getBody(), CustomerResponseDTO.class);
+        assertEquals("12345678909", decoded.getCpf());
+        assertEquals(LocalDate.of(1990, 5, 15), decoded.getBirthDate());
+        assertEquals("01234567", decoded.getAddress().getZipCode());
+
+        ResponseEntity<byte[]> page = restTemplate.exchange(baseUrl + "?limit=10", HttpMethod.GET,
+            new HttpEntity<>(cborHeaders), byte[].class);
+        assertEquals(MediaType.APPLICATION_CBOR, page.getHeaders().getContentType());
+        assertEquals(customerId, cbor.readValue(page.getBody(), CustomerPageResponseDTO.class).getItems().get(0).getId());
+
+        HttpHeaders anyHeaders = new HttpHeaders();
+        anyHeaders.setAccept(List.of(MediaType.ALL));
+        ResponseEntity<String> json = restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.GET,
+            new HttpEntity<>(anyHeaders), String.class);
+        assertEquals(MediaType.APPLICATION_JSON, json.getHeaders().getContentType());
+        assertEquals(customerId.toString(), new ObjectMapper().readTree(json.getBody()).get("id").asText());
+    }
+
+    @Test
+    void negotiateProtobufRepresentation() throws Exception {
+        NativeProtobufSchema schema;
+        try (InputStream proto = new ClassPathResource("proto/customer.proto").getInputStream()) {
+            schema = ProtobufSchemaLoader.std.loadNative(proto, true);
+        }
+        ObjectMapper protobuf = new ProtobufMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        MediaType protobufType = MediaType.parseMediaType(BinaryFormatsConfig.APPLICATION_PROTOBUF_VALUE);
+        HttpHeaders protobufHeaders = new HttpHeaders();
+        protobufHeaders.setContentType(protobufType);
+        protobufHeaders.setAccept(List.of(protobufType));
+        AddressDTO addressDTO = new AddressDTO("Rua A", "123", "São Paulo", "SP", "01234567");
+
+        byte[] request = protobuf.writer(schema.forType("CustomerRequest")).writeValueAsBytes(
+            new CustomerRequestDTO("Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), addressDTO));
+        ResponseEntity<byte[]> created = restTemplate.postForEntity(baseUrl, new HttpEntity<>(request, protobufHeaders), byte[].class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        assertEquals(protobufType, created.getHeaders().getContentType());
+        ObjectReader reader = protobuf.readerFor(CustomerResponseDTO.class).with(schema.forType("CustomerResponse"));
+        UUID customerId = reader.<CustomerResponseDTO>readValue(created.getBody()).getId();
+
+        ResponseEntity<byte[]> customer = restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.GET,
+            new HttpEntity<>(protobufHeaders), byte[].class);
+        assertEquals(HttpStatus.OK, customer.getStatusCode());
+        assertEquals(protobufType, customer.getHeaders().getContentType());
+        assertEquals("\"0-protobuf\"", customer.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT), customer.getHeaders().getVary());
+        CustomerResponseDTO decoded = reader.readValue(customer.getBody());
+        assertEquals("12345678909", decoded.getCpf());
+        assertEquals(LocalDate.of(1990, 5, 15), decoded.getBirthDate());
+        assertEquals("01234567", decoded.getAddress().getZipCode());
+
+        ResponseEntity<byte[]> page = restTemplate.exchange(baseUrl + "?limit=10", HttpMethod.GET,
+            new HttpEntity<>(protobufHeaders), byte[].class);
+        assertEquals(protobufType, page.getHeaders().getContentType());
+        CustomerPageResponseDTO decodedPage = protobuf.readerFor(CustomerPageResponseDTO.class)
+            .with(schema.forType("CustomerPage")).readValue(page.getBody());
+        assertEquals(customerId, decodedPage.getItems().get(0).getId());
+
+        protobufHeaders.setIfNoneMatch("\"0\"");
+        assertEquals(HttpStatus.OK, restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.GET,
+            new HttpEntity<>(protobufHeaders), byte[].class).getStatusCode());
+        protobufHeaders.setIfNoneMatch("\"0-protobuf\"");
+        assertEquals(HttpStatus.NOT_MODIFIED, restTemplate.exchange(baseUrl + "/" + customerId, HttpMethod.GET,
+            new HttpEntity<>(protobufHeaders), byte[].class).getStatusCode());
+    }
+
     @Test
     void createCustomerWithValidationErrors() {
         AddressDTO addressDTO = new AddressDTO("", "", "", "", "");
@@ -218,4 +880,21 @@ class CustomerIntegrationTest {
             baseUrl, entity, String.class);
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
+
+    @Test
+    void exposeUseCaseGatewayPoolAndExceptionMetricsToPrometheus() {
+        restTemplate.exchange(baseUrl + "/" + UUID.randomUUID(), HttpMethod.DELETE, null, String.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/actuator/prometheus", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String metrics = response.getBody();
+        assertNotNull(metrics);
+        assertTrue(metrics.contains("customer_usecase_seconds_bucket{outcome=\"not_found\",usecase=\"DeleteCustomerByIdUseCase\""));
+        assertTrue(metrics.contains("customer_gateway_seconds_count{gateway=\"CustomerJpaGateway\",method=\"deleteById\",outcome=\"no_match\"}"));
+        assertTrue(metrics.contains("customer_exceptions_total{exception=\"CustomerNotFoundException\"}"));
+        assertTrue(metrics.contains("hikaricp_connections_pending"));
+        assertTrue(metrics.contains("hikaricp_connections_acquire_seconds_bucket"));
+    }
 }
@@ -0,0 +1,185 @@
+package com.fiap.cliente.integration;
+
+import com.fiap.cliente.controller.json.AddressDTO;
+import com.fiap.cliente.controller.json.CustomerPageResponseDTO;
+import com.fiap.cliente.controller.json.CustomerPatchDTO;
+import com.fiap.cliente.controller.json.CustomerRequestDTO;
+import com.fiap.cliente.controller.json.CustomerResponseDTO;
+import com.fiap.cliente.support.Cpfs;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactivedb",
+    "customer.r2dbc.url=r2dbc:h2:mem:///reactivedb?options=DB_CLOSE_DELAY=-1",
+    "customer.r2dbc.username=sa",
+    "customer.r2dbc.password="
+})
+@ActiveProfiles({"test", "reactive"})
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactiveCustomerIntegrationTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("DELETE FROM customers").then().block();
+    }
+
+    @Test
+    void completeCustomerLifecycle() {
+        CustomerResponseDTO created = create("Maria Silva", "12345678909");
+        assertNotNull(created.getId());
+        String customerUrl = "/customers/" + created.getId();
+
+        CustomerResponseDTO found = webTestClient.get().uri(customerUrl)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", "\"0\"")
+            .expectBody(CustomerResponseDTO.class)
+            .returnResult().getResponseBody();
+        assertEquals("Maria Silva", found.getFullName());
+        assertEquals("Recife", found.getAddress().getCity());
+
+        webTestClient.get().uri(customerUrl)
+            .header("If-None-Match", "\"0\"")
+            .exchange()
+            .expectStatus().isNotModified()
+            .expectBody().isEmpty();
+
+        CustomerRequestDTO updateRequest = new CustomerRequestDTO("Maria Santos", "12345678909", LocalDate.of(1990, 5, 15),
+            new AddressDTO("Rua B", "10", "Olinda", "PE", "53000000"));
+        webTestClient.put().uri(customerUrl)
+            .header("If-Match", "\"0\"")
+            .bodyValue(updateRequest)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", "\"1\"");
+
+        webTestClient.put().uri(customerUrl)
+            .header("If-Match", "\"0\"")
+            .bodyValue(updateRequest)
+            .exchange()
+            .expectStatus().isEqualTo(412);
+
+        webTestClient.patch().uri(customerUrl)
+            .bodyValue(new CustomerPatchDTO(null, null, null, new AddressDTO(null, null, "Recife", null, null)))
+            .exchange()
+            .expectStatus().isNoContent()
+            .expectHeader().valueEquals("ETag", "\"2\"");
+
+        webTestClient.patch().uri(customerUrl)
+            .header("If-Match", "\"1\"")
+            .bodyValue(new CustomerPatchDTO("Maria Souza", null, null, null))
+            .exchange()
+            .expectStatus().isEqualTo(412);
+
+        CustomerResponseDTO patched = webTestClient.get().uri(customerUrl)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals("ETag", "\"2\"")
+            .expectBody(CustomerResponseDTO.class)
+            .returnResult().getResponseBody();
+        assertEquals("Maria Santos", patched.getFullName());
+        assertEquals("Rua B", patched.getAddress().getStreet());
+        assertEquals("Recife", patched.getAddress().getCity());
+
+        webTestClient.delete().uri(customerUrl)
+            .exchange()
+            .expectStatus().isNoContent();
+
+        webTestClient.get().uri(customerUrl)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    void rejectDuplicateAndInvalidCustomers() {
+        create("Maria Silva", "12345678909");
+
+        webTestClient.post().uri("/customers")
+            .bodyValue(request("Joao Silva", "12345678909"))
+            .exchange()
+            .expectStatus().isEqualTo(409);
+
+        webTestClient.post().uri("/customers")
+            .bodyValue(request("Joao Silva", "123"))
+            .exchange()
+            .expectStatus().isBadRequest();
+
+        webTestClient.delete().uri("/customers/" + UUID.randomUUID())
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+
+    @Test
+    void pageThroughCustomersAndExportThem() {
+        for (int i = 0; i < 5; i++) {
+            create("Customer " + i, Cpfs.valid(i));
+        }
+
+        CustomerPageResponseDTO firstPage = webTestClient.get().uri("/customers?limit=3&includeTotal=true")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(CustomerPageResponseDTO.class)
+            .returnResult().getResponseBody();
+        assertEquals(3, firstPage.getItems().size());
+        assertEquals(5L, firstPage.getApproximateTotal());
+        assertNotNull(firstPage.getNextCursor());
+
+        CustomerPageResponseDTO secondPage = webTestClient.get().uri("/customers?limit=3&after=" + firstPage.getNextCursor())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(CustomerPageResponseDTO.class)
+            .returnResult().getResponseBody();
+        assertEquals(2, secondPage.getItems().size());
+        assertNull(secondPage.getNextCursor());
+
+        List<CustomerResponseDTO> exported = webTestClient.get().uri("/customers/export")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(CustomerResponseDTO.class)
+            .getResponseBody()
+            .collectList()
+            .block();
+        assertEquals(5, exported.size());
+
+        webTestClient.get().uri("/customers?after=not-a-cursor")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    private CustomerResponseDTO create(String fullName, String cpf) {
+        return webTestClient.post().uri("/customers")
+            .bodyValue(request(fullName, cpf))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(CustomerResponseDTO.class)
+            .returnResult().getResponseBody();
+    }
+
+    private CustomerRequestDTO request(String fullName, String cpf) {
+        return new CustomerRequestDTO(fullName, cpf, LocalDate.of(1990, 5, 15),
+            new AddressDTO("Rua A", "123", "Recife", "PE", "50000000"));
+    }
+}
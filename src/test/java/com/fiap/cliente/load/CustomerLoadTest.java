@@ -0,0 +1,319 @@
+package com.fiap.cliente.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fiap.cliente.load.PostmanCollection.Operation;
+import com.fiap.cliente.load.PostmanCollection.Template;
+import com.fiap.cliente.support.Cpfs;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replays the Postman collection as an open-model load: requests are started on a fixed schedule
+ * regardless of how many are still in flight, and latency is measured from the scheduled start so
+ * queueing delay is not hidden. Excluded from the regular build; run with {@code ./mvnw -Pload test}.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("load")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class CustomerLoadTest {
+
+    static final String COLLECTION = "postman/fiap-cliente-service.postman_collection.json";
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${load.rps}")
+    int rps;
+
+    @Value("${load.duration}")
+    Duration duration;
+
+    @Value("${load.warmup}")
+    Duration warmup;
+
+    @Value("${load.preload}")
+    int preload;
+
+    @Value("${load.mix}")
+    String mix;
+
+    @Value("${load.hot-keys}")
+    int hotKeys;
+
+    @Value("${load.hot-ratio}")
+    double hotRatio;
+
+    @Value("${load.budget.p99}")
+    Duration p99Budget;
+
+    @Value("${load.budget.p999}")
+    Duration p999Budget;
+
+    @Value("${load.budget.error-rate}")
+    double errorRateBudget;
+
+    @Value("${load.budget.min-throughput-ratio}")
+    double minThroughputRatio;
+
+    PostmanCollection collection;
+    HttpClient httpClient;
+    String baseUrl;
+    CustomerPool customers;
+    List<CustomerPool.Entry> hot;
+    AtomicLong cpfSequence;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        collection = PostmanCollection.load(objectMapper, COLLECTION);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://localhost:" + port;
+        customers = new CustomerPool();
+        hot = new ArrayList<>();
+        cpfSequence = new AtomicLong(ThreadLocalRandom.current().nextLong(100_000_000L, 900_000_000L));
+    }
+
+    @Test
+    void replayPostmanCollectionWithinBudgets() throws Exception {
+        for (int i = 0; i < hotKeys; i++) {
+            HttpResponse<String> response = httpClient.send(create(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, response.statusCode(), response.body());
+            hot.add(entry(response.body()));
+        }
+        for (int i = 0; i < preload; i++) {
+            HttpResponse<String> response = httpClient.send(create(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, response.statusCode(), response.body());
+            remember(response.body());
+        }
+
+        List<Operation> schedule = schedule();
+        run(schedule, warmup, recorders());
+        Map<Operation, LatencyRecorder> recorders = recorders();
+        double elapsedSeconds = run(schedule, duration, recorders);
+
+        Map<Operation, LatencyRecorder.Snapshot> snapshots = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> snapshots.put(operation, recorder.snapshot()));
+        LatencyRecorder.Snapshot overall = LatencyRecorder.Snapshot.merge(snapshots.values());
+        double throughput = overall.count() / elapsedSeconds;
+        report(snapshots, overall, throughput);
+
+        assertAll(
+            () -> assertTrue(overall.percentile(99) <= p99Budget.toNanos() / 1000,
+                "p99 " + overall.percentile(99) + "us exceeds budget " + p99Budget),
+            () -> assertTrue(overall.percentile(99.9) <= p999Budget.toNanos() / 1000,
+                "p99.9 " + overall.percentile(99.9) + "us exceeds budget " + p999Budget),
+            () -> assertTrue(overall.errorRate() <= errorRateBudget,
+                "error rate " + overall.errorRate() + " exceeds budget " + errorRateBudget),
+            () -> assertTrue(throughput >= rps * minThroughputRatio,
+                "throughput " + throughput + " rps is below " + minThroughputRatio + " of target " + rps)
+        );
+    }
+
+    /**
+     * Starts {@code rps * phase} requests on a fixed schedule and waits for all of them, returning the
+     * elapsed wall-clock seconds.
+     */
+    private double run(List<Operation> schedule, Duration phase, Map<Operation, LatencyRecorder> recorders) throws Exception {
+        long total = rps * phase.toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = schedule.get(ThreadLocalRandom.current().nextInt(schedule.size()));
+            inFlight.add(dispatch(operation, intendedStart, recorders.get(operation)));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS);
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private static Map<Operation, LatencyRecorder> recorders() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+        return recorders;
+    }
+
+    /**
+     * A share of gets and updates ({@code load.hot-ratio}) goes to a few customers that are never deleted,
+     * so cache misses on one id keep racing the evictions of its updates.
+     */
+    private CompletableFuture<?> dispatch(Operation operation, long intendedStart, LatencyRecorder recorder) {
+        CustomerPool.Entry target = operation == Operation.CREATE || operation == Operation.LIST
+            ? null
+            : operation == Operation.DELETE ? customers.removeRandom() : target();
+        if (target == null && operation != Operation.LIST) {
+            operation = Operation.CREATE;
+        }
+        Operation performed = operation;
+        return httpClient.sendAsync(request(performed, target), HttpResponse.BodyHandlers.ofString())
+            .handle((response, error) -> {
+                long micros = (System.nanoTime() - intendedStart) / 1000;
+                boolean failed = error != null || !isExpected(performed, response.statusCode());
+                recorder.record(micros, failed);
+                if (!failed && performed == Operation.CREATE) {
+                    remember(response.body());
+                }
+                return null;
+            });
+    }
+
+    private CustomerPool.Entry target() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (!hot.isEmpty() && random.nextDouble() < hotRatio) {
+            return hot.get(random.nextInt(hot.size()));
+        }
+        return customers.random();
+    }
+
+    private HttpRequest request(Operation operation, CustomerPool.Entry target) {
+        return switch (operation) {
+            case CREATE -> create();
+            case LIST -> newRequest(uri(collection.template(Operation.LIST).path())).GET().build();
+            case GET -> newRequest(uri(collection.template(Operation.GET).path(target.id()))).GET().build();
+            case UPDATE -> {
+                Template template = collection.template(Operation.UPDATE);
+                ObjectNode body = template.body().deepCopy().put("cpf", target.cpf());
+                yield json(newRequest(uri(template.path(target.id()))), "PUT", body);
+            }
+            case DELETE -> newRequest(uri(collection.template(Operation.DELETE).path(target.id()))).DELETE().build();
+        };
+    }
+
+    private HttpRequest create() {
+        Template template = collection.template(Operation.CREATE);
+        ObjectNode body = template.body().deepCopy().put("cpf", Cpfs.valid(cpfSequence.getAndIncrement()));
+        return json(newRequest(uri(template.path())), "POST", body);
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, ObjectNode body) {
+        return builder.header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+    }
+
+    private static HttpRequest.Builder newRequest(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT);
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private void remember(String createdBody) {
+        customers.add(entry(createdBody));
+    }
+
+    private CustomerPool.Entry entry(String createdBody) {
+        try {
+            JsonNode created = objectMapper.readTree(createdBody);
+            return new CustomerPool.Entry(UUID.fromString(created.path("id").asText()), created.path("cpf").asText());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unexpected create response: " + createdBody, ex);
+        }
+    }
+
+    /**
+     * Ids are picked at random while other requests delete them, so a 404 on an id-based
+     * operation is an expected race rather than a failure.
+     */
+    private static boolean isExpected(Operation operation, int status) {
+        return switch (operation) {
+            case CREATE -> status == 201;
+            case LIST -> status == 200;
+            case GET, UPDATE -> status == 200 || status == 404;
+            case DELETE -> status == 204 || status == 404;
+        };
+    }
+
+    private List<Operation> schedule() {
+        List<Operation> schedule = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] weighted = entry.trim().split(":");
+            Operation operation = Operation.valueOf(weighted[0].trim().toUpperCase());
+            for (int i = 0; i < Integer.parseInt(weighted[1].trim()); i++) {
+                schedule.add(operation);
+            }
+        }
+        assertFalse(schedule.isEmpty(), "load.mix must give at least one operation a positive weight");
+        return schedule;
+    }
+
+    private void report(Map<Operation, LatencyRecorder.Snapshot> snapshots, LatencyRecorder.Snapshot overall, double throughput) {
+        StringBuilder report = new StringBuilder(String.format("%nLoad test: target %d rps for %s, achieved %.1f rps%n", rps, duration, throughput));
+        report.append(String.format("%-8s %8s %7s %10s %10s %10s %10s%n", "op", "count", "errors", "p50(us)", "p99(us)", "p99.9(us)", "max(us)"));
+        snapshots.forEach((operation, snapshot) -> report.append(row(operation.name(), snapshot)));
+        report.append(row("ALL", overall));
+        log.info(report.toString());
+    }
+
+    private static String row(String name, LatencyRecorder.Snapshot snapshot) {
+        return String.format("%-8s %8d %7d %10d %10d %10d %10d%n", name, snapshot.count(), snapshot.errors(),
+            snapshot.percentile(50), snapshot.percentile(99), snapshot.percentile(99.9), snapshot.max());
+    }
+
+    static class CustomerPool {
+
+        record Entry(UUID id, String cpf) {
+        }
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        synchronized void add(Entry entry) {
+            entries.add(entry);
+        }
+
+        synchronized Entry random() {
+            return entries.isEmpty() ? null : entries.get(ThreadLocalRandom.current().nextInt(entries.size()));
+        }
+
+        synchronized Entry removeRandom() {
+            if (entries.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(entries.size());
+            Entry last = entries.remove(entries.size() - 1);
+            return index == entries.size() ? last : entries.set(index, last);
+        }
+    }
+}
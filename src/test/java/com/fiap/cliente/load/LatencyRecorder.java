@@ -0,0 +1,65 @@
+package com.fiap.cliente.load;
+
+import java.util.Arrays;
+
+/**
+ * Collects latencies in microseconds and reports percentiles over the whole run.
+ */
+class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    synchronized void record(long micros, boolean error) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = micros;
+        if (error) {
+            errors++;
+        }
+    }
+
+    synchronized Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Snapshot(sorted, errors);
+    }
+
+    record Snapshot(long[] sorted, long errors) {
+
+        long count() {
+            return sorted.length;
+        }
+
+        long percentile(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        long max() {
+            return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        }
+
+        double errorRate() {
+            return sorted.length == 0 ? 0 : (double) errors / sorted.length;
+        }
+
+        static Snapshot merge(Iterable<Snapshot> snapshots) {
+            long[] merged = new long[0];
+            long errors = 0;
+            for (Snapshot snapshot : snapshots) {
+                long[] combined = Arrays.copyOf(merged, merged.length + snapshot.sorted.length);
+                System.arraycopy(snapshot.sorted, 0, combined, merged.length, snapshot.sorted.length);
+                merged = combined;
+                errors += snapshot.errors;
+            }
+            Arrays.sort(merged);
+            return new Snapshot(merged, errors);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.fiap.cliente.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Request templates read from the Postman collection, keyed by the operation each one performs.
+ */
+class PostmanCollection {
+
+    enum Operation {
+        CREATE, GET, LIST, UPDATE, DELETE
+    }
+
+    record Template(String name, String method, String path, ObjectNode body) {
+
+        String path(Object id) {
+            return path.replace(":id", String.valueOf(id));
+        }
+    }
+
+    private final Map<Operation, Template> templates;
+
+    private PostmanCollection(Map<Operation, Template> templates) {
+        this.templates = templates;
+    }
+
+    static PostmanCollection load(ObjectMapper objectMapper, String resource) throws IOException {
+        try (InputStream input = PostmanCollection.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IOException("Postman collection not found on classpath: " + resource);
+            }
+            Map<Operation, Template> templates = new EnumMap<>(Operation.class);
+            for (JsonNode item : objectMapper.readTree(input).path("item")) {
+                JsonNode request = item.path("request");
+                String method = request.path("method").asText();
+                String path = URI.create(request.path("url").path("raw").asText()).getPath();
+                String rawBody = request.path("body").path("raw").asText(null);
+                ObjectNode body = rawBody == null || rawBody.isBlank() ? null : (ObjectNode) objectMapper.readTree(rawBody);
+                templates.putIfAbsent(operationOf(method, path), new Template(item.path("name").asText(), method, path, body));
+            }
+            return new PostmanCollection(templates);
+        }
+    }
+
+    Template template(Operation operation) {
+        Template template = templates.get(operation);
+        if (template == null) {
+            throw new IllegalStateException("Postman collection has no request for " + operation);
+        }
+        return template;
+    }
+
+    private static Operation operationOf(String method, String path) {
+        boolean byId = path.contains(":id");
+        return switch (method) {
+            case "POST" -> Operation.CREATE;
+            case "GET" -> byId ? Operation.GET : Operation.LIST;
+            case "PUT" -> Operation.UPDATE;
+            case "DELETE" -> Operation.DELETE;
+            default -> throw new IllegalArgumentException("Unsupported request in collection: " + method + " " + path);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.fiap.cliente.support;
+
+import com.fiap.cliente.domain.Cpf;
+
+/**
+ * Distinct valid CPFs for tests that need many customers: the sequence becomes the nine base digits and
+ * the check digits are the only pair {@link Cpf} accepts.
+ */
+public final class Cpfs {
+
+    private Cpfs() {
+    }
+
+    public static String valid(long sequence) {
+        String base = String.format("%09d", sequence + 1);
+        for (int check = 0; check < 100; check++) {
+            String cpf = base + String.format("%02d", check);
+            if (Cpf.isValid(cpf)) {
+                return cpf;
+            }
+        }
+        throw new IllegalArgumentException("No valid CPF for sequence " + sequence);
+    }
+}
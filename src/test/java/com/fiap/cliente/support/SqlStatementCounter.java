@@ -0,0 +1,80 @@
+package com.fiap.cliente.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Records every statement Hibernate prepares so tests can pin the number of round trips a request
+ * costs. Registered through {@code hibernate.session_factory.statement_inspector} in the test profile;
+ * Hibernate instantiates it reflectively, so the recorded statements are kept statically and shared by
+ * every session of the JVM. Call {@link #reset()} right before the code under measurement.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public enum Type {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static Type of(String sql) {
+            String keyword = sql.stripLeading().split("\\s+", 2)[0].toUpperCase(Locale.ROOT);
+            return switch (keyword) {
+                case "SELECT", "WITH" -> SELECT;
+                case "INSERT" -> INSERT;
+                case "UPDATE" -> UPDATE;
+                case "DELETE" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+
+    public static List<String> statements() {
+        synchronized (STATEMENTS) {
+            return List.copyOf(STATEMENTS);
+        }
+    }
+
+    public static Map<Type, Integer> counts() {
+        Map<Type, Integer> counts = new EnumMap<>(Type.class);
+        for (Type type : Type.values()) {
+            counts.put(type, 0);
+        }
+        statements().forEach(sql -> counts.merge(Type.of(sql), 1, Integer::sum));
+        return counts;
+    }
+
+    /**
+     * Asserts the exact statement budget since the last {@link #reset()}; the failure message lists
+     * the statements that were actually issued.
+     */
+    public static void assertStatements(int selects, int inserts, int updates, int deletes) {
+        Map<Type, Integer> expected = new EnumMap<>(Type.class);
+        expected.put(Type.SELECT, selects);
+        expected.put(Type.INSERT, inserts);
+        expected.put(Type.UPDATE, updates);
+        expected.put(Type.DELETE, deletes);
+        expected.put(Type.OTHER, 0);
+        assertEquals(expected, counts(), () -> "Unexpected SQL statements:\n" + String.join("\n", statements()));
+    }
+}
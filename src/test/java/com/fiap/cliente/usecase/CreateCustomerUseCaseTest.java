@@ -13,7 +13,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,15 +36,14 @@ class CreateCustomerUseCaseTest {
     void setUp() {
         createCustomerUseCase = new CreateCustomerUseCase(customerGateway);
         Address address = new Address("Rua A", "123", "São Paulo", "SP", "01234567");
-        newCustomer = new Customer(null, "Maria Silva", "12345678901", LocalDate.of(1990, 5, 15), address);
+        newCustomer = new Customer(null, "Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), address, null);
         existingCustomer = new Customer(UUID.randomUUID(), newCustomer.getFullName(),
-                newCustomer.getCpf(), newCustomer.getBirthDate(), newCustomer.getAddress());
+                newCustomer.getCpf(), newCustomer.getBirthDate(), newCustomer.getAddress(), null);
     }
 
     @Test
     void registerNewCustomerSuccessfully() {
-        when(customerGateway.findByCpf(newCustomer.getCpf())).thenReturn(Optional.empty());
-        when(customerGateway.save(newCustomer)).thenReturn(existingCustomer);
+        when(customerGateway.create(newCustomer)).thenReturn(existingCustomer);
 
         Customer savedCustomer = createCustomerUseCase.execute(newCustomer);
 
@@ -56,19 +54,18 @@ class CreateCustomerUseCaseTest {
         assertNotNull(savedCustomer.getAddress());
         assertEquals(newCustomer.getAddress().getStreet(), savedCustomer.getAddress().getStreet());
 
-        verify(customerGateway).findByCpf(newCustomer.getCpf());
-        verify(customerGateway).save(newCustomer);
+        verify(customerGateway).create(newCustomer);
     }
 
     @Test
     void throwExceptionWhenCpfAlreadyExists() {
-        when(customerGateway.findByCpf(newCustomer.getCpf())).thenReturn(Optional.of(existingCustomer));
+        when(customerGateway.create(newCustomer)).thenThrow(new CpfAlreadyInRegisteredException(newCustomer.getCpf()));
 
         CpfAlreadyInRegisteredException exception = assertThrows(CpfAlreadyInRegisteredException.class,
                 () -> createCustomerUseCase.execute(newCustomer));
         assertTrue(exception.getMessage().endsWith(existingCustomer.getCpf()));
-        verify(customerGateway).findByCpf(newCustomer.getCpf());
-        verify(customerGateway, never()).save(any());
+        verify(customerGateway).create(newCustomer);
+        verify(customerGateway, never()).update(any());
     }
 
 }
\ No newline at end of file
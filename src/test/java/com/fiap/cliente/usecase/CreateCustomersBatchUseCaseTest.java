@@ -0,0 +1,170 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.Address;
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerBatchItem;
+import com.fiap.cliente.exception.BatchTooLargeException;
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
+import com.fiap.cliente.exception.InvalidCpfException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class CreateCustomersBatchUseCaseTest {
+
+    @Mock
+    CustomerGateway customerGateway;
+
+    CreateCustomersBatchUseCase createCustomersBatchUseCase;
+
+    Address address;
+
+    @BeforeEach
+    void setUp() {
+        createCustomersBatchUseCase = new CreateCustomersBatchUseCase(customerGateway);
+        address = new Address("Rua A", "123", "São Paulo", "SP", "01234567");
+    }
+
+    @Test
+    void createAllNewCustomersSuccessfully() {
+        Customer first = newCustomer("Maria Silva", "12345678909");
+        Customer second = newCustomer("Joao Silva", "98765432100");
+        Customer firstSaved = savedCopy(first);
+        Customer secondSaved = savedCopy(second);
+        when(customerGateway.findRegisteredCpfs(List.of(first.getCpf(), second.getCpf()))).thenReturn(Set.of());
+        when(customerGateway.saveAll(List.of(first, second))).thenReturn(List.of(firstSaved, secondSaved));
+
+        List<CustomerBatchItem> result = createCustomersBatchUseCase.execute(List.of(() -> first, () -> second));
+
+        assertEquals(2, result.size());
+        assertEquals(CustomerBatchItem.Status.CREATED, result.get(0).getStatus());
+        assertEquals(firstSaved, result.get(0).getCustomer());
+        assertEquals(CustomerBatchItem.Status.CREATED, result.get(1).getStatus());
+        assertEquals(secondSaved, result.get(1).getCustomer());
+        verify(customerGateway).findRegisteredCpfs(any());
+        verify(customerGateway).saveAll(any());
+    }
+
+    @Test
+    void reportDuplicatesInvalidAndCreatedInRequestOrder() {
+        Customer registered = newCustomer("Maria Silva", "12345678909");
+        Customer fresh = newCustomer("Joao Silva", "98765432100");
+        Customer repeatedInBatch = newCustomer("Joao Repetido", "98765432100");
+        Customer freshSaved = savedCopy(fresh);
+        Supplier<Customer> invalid = () -> {
+            throw new InvalidCpfException("123");
+        };
+        when(customerGateway.findRegisteredCpfs(any())).thenReturn(Set.of(registered.getCpf()));
+        when(customerGateway.saveAll(List.of(fresh))).thenReturn(List.of(freshSaved));
+
+        List<CustomerBatchItem> result = createCustomersBatchUseCase.execute(
+                List.of(() -> registered, invalid, () -> fresh, () -> repeatedInBatch));
+
+        assertEquals(4, result.size());
+        assertEquals(CustomerBatchItem.Status.DUPLICATE, result.get(0).getStatus());
+        assertEquals(registered.getCpf(), result.get(0).getCpf());
+        assertEquals(CustomerBatchItem.Status.INVALID, result.get(1).getStatus());
+        assertTrue(result.get(1).getMessage().endsWith("123"));
+        assertEquals(CustomerBatchItem.Status.CREATED, result.get(2).getStatus());
+        assertEquals(freshSaved.getId(), result.get(2).getCustomer().getId());
+        assertEquals(CustomerBatchItem.Status.DUPLICATE, result.get(3).getStatus());
+        verify(customerGateway).saveAll(List.of(fresh));
+    }
+
+    @Test
+    void reportMissingRequiredFieldsAndNullItemsAsInvalid() {
+        Customer fresh = newCustomer("Joao Silva", "98765432100");
+        Customer freshSaved = savedCopy(fresh);
+        when(customerGateway.findRegisteredCpfs(List.of(fresh.getCpf()))).thenReturn(Set.of());
+        when(customerGateway.saveAll(List.of(fresh))).thenReturn(List.of(freshSaved));
+
+        List<CustomerBatchItem> result = createCustomersBatchUseCase.execute(List.of(
+                () -> newCustomer(null, "12345678909"),
+                () -> new Customer(null, "Maria Silva", "12345678909", null, address, null),
+                () -> null,
+                () -> fresh));
+
+        assertEquals(CustomerBatchItem.Status.INVALID, result.get(0).getStatus());
+        assertTrue(result.get(0).getMessage().endsWith("fullName"));
+        assertEquals(CustomerBatchItem.Status.INVALID, result.get(1).getStatus());
+        assertTrue(result.get(1).getMessage().endsWith("birthDate"));
+        assertEquals(CustomerBatchItem.Status.INVALID, result.get(2).getStatus());
+        assertEquals(CustomerBatchItem.Status.CREATED, result.get(3).getStatus());
+    }
+
+    @Test
+    void reportCpfRegisteredConcurrentlyAsDuplicateAndSaveTheRest() {
+        Customer raced = newCustomer("Maria Silva", "12345678909");
+        Customer fresh = newCustomer("Joao Silva", "98765432100");
+        Customer freshSaved = savedCopy(fresh);
+        List<String> cpfs = List.of(raced.getCpf(), fresh.getCpf());
+        when(customerGateway.findRegisteredCpfs(cpfs)).thenReturn(Set.of(), Set.of(raced.getCpf()));
+        when(customerGateway.saveAll(List.of(raced, fresh))).thenThrow(new CpfAlreadyInRegisteredException());
+        when(customerGateway.saveAll(List.of(fresh))).thenReturn(List.of(freshSaved));
+
+        List<CustomerBatchItem> result = createCustomersBatchUseCase.execute(List.of(() -> raced, () -> fresh));
+
+        assertEquals(CustomerBatchItem.Status.DUPLICATE, result.get(0).getStatus());
+        assertEquals(CustomerBatchItem.Status.CREATED, result.get(1).getStatus());
+        assertEquals(freshSaved, result.get(1).getCustomer());
+    }
+
+    @Test
+    void giveUpAfterRepeatedCpfConflicts() {
+        Customer customer = newCustomer("Maria Silva", "12345678909");
+        when(customerGateway.findRegisteredCpfs(any())).thenReturn(Set.of());
+        when(customerGateway.saveAll(any())).thenThrow(new CpfAlreadyInRegisteredException());
+
+        assertThrows(CpfAlreadyInRegisteredException.class,
+                () -> createCustomersBatchUseCase.execute(List.of(() -> customer)));
+        verify(customerGateway, times(CreateCustomersBatchUseCase.MAX_SAVE_ATTEMPTS)).saveAll(any());
+    }
+
+    @Test
+    void skipSaveWhenEverythingIsDuplicate() {
+        Customer registered = newCustomer("Maria Silva", "12345678909");
+        when(customerGateway.findRegisteredCpfs(any())).thenReturn(Set.of(registered.getCpf()));
+        when(customerGateway.saveAll(Collections.emptyList())).thenReturn(Collections.emptyList());
+
+        List<CustomerBatchItem> result = createCustomersBatchUseCase.execute(List.of(() -> registered));
+
+        assertEquals(CustomerBatchItem.Status.DUPLICATE, result.get(0).getStatus());
+    }
+
+    @Test
+    void throwExceptionWhenBatchTooLarge() {
+        List<Supplier<Customer>> candidates = Collections.nCopies(CreateCustomersBatchUseCase.MAX_BATCH_SIZE + 1,
+                () -> newCustomer("Maria Silva", "12345678909"));
+
+        assertThrows(BatchTooLargeException.class, () -> createCustomersBatchUseCase.execute(candidates));
+        verifyNoInteractions(customerGateway);
+    }
+
+    private Customer newCustomer(String fullName, String cpf) {
+        return new Customer(null, fullName, cpf, LocalDate.of(1990, 5, 15), address, null);
+    }
+
+    private Customer savedCopy(Customer customer) {
+        return new Customer(UUID.randomUUID(), customer.getFullName(), customer.getCpf(),
+                customer.getBirthDate(), customer.getAddress(), null);
+    }
+
+}
@@ -1,6 +1,5 @@
 package com.fiap.cliente.usecase;
 
-import com.fiap.cliente.domain.Customer;
 import com.fiap.cliente.exception.CustomerNotFoundException;
 import com.fiap.cliente.gateway.CustomerGateway;
 import lombok.AccessLevel;
@@ -11,11 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDate;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,34 +26,33 @@ class DeleteCustomerByIdUseCaseTest {
     DeleteCustomerByIdUseCase deleteCustomerByIdUseCase;
 
     UUID existingCustomerId;
-    Customer existingCustomer;
 
     @BeforeEach
     void setUp() {
         deleteCustomerByIdUseCase = new DeleteCustomerByIdUseCase(customerGateway);
         existingCustomerId = UUID.randomUUID();
-        existingCustomer = new Customer(existingCustomerId, "Joao Silva", "12345678901", LocalDate.of(1990, 5, 15), null);
     }
 
     @Test
     void deleteExistingCustomerSuccessfully() {
-        when(customerGateway.findById(existingCustomerId)).thenReturn(Optional.of(existingCustomer));
+        when(customerGateway.deleteById(existingCustomerId)).thenReturn(true);
 
         deleteCustomerByIdUseCase.execute(existingCustomerId);
 
-        verify(customerGateway).delete(existingCustomer);
+        verify(customerGateway).deleteById(existingCustomerId);
+        verify(customerGateway, never()).findById(any());
     }
 
     @Test
     void throwExceptionWhenCustomerNotFound() {
         UUID nonExistentId = UUID.randomUUID();
-        when(customerGateway.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(customerGateway.deleteById(nonExistentId)).thenReturn(false);
 
         CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
                 () -> deleteCustomerByIdUseCase.execute(nonExistentId));
 
         assertTrue(exception.getMessage().endsWith(nonExistentId.toString()));
-        verify(customerGateway, never()).delete(any());
+        verify(customerGateway).deleteById(nonExistentId);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ExportCustomersUseCaseTest {
+
+    @Mock
+    CustomerGateway customerGateway;
+
+    ExportCustomersUseCase exportCustomersUseCase;
+
+    @BeforeEach
+    void setUp() {
+        exportCustomersUseCase = new ExportCustomersUseCase(customerGateway);
+    }
+
+    @Test
+    void exportEveryCustomerAndCloseStream() {
+        List<CustomerView> customers = List.of(
+                view("Joao Silva", "12345678909"),
+                view("Cadastro Legado", "12345678900")
+        );
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(customerGateway.streamAll()).thenReturn(customers.stream().onClose(() -> closed.set(true)));
+
+        List<CustomerView> exported = new ArrayList<>();
+        exportCustomersUseCase.execute(exported::add);
+
+        assertEquals(customers, exported);
+        assertTrue(closed.get());
+        verify(customerGateway).streamAll();
+    }
+
+    @Test
+    void closeStreamWhenConsumerFails() {
+        AtomicBoolean closed = new AtomicBoolean(false);
+        CustomerView customer = view("Joao Silva", "12345678909");
+        when(customerGateway.streamAll()).thenReturn(Stream.of(customer).onClose(() -> closed.set(true)));
+
+        assertThrows(IllegalStateException.class, () -> exportCustomersUseCase.execute(exported -> {
+            throw new IllegalStateException("client disconnected");
+        }));
+        assertTrue(closed.get());
+    }
+
+    private static CustomerView view(String fullName, String cpf) {
+        return new CustomerView(UUID.randomUUID(), fullName, cpf, LocalDate.of(1990, 5, 15), null, null, null, null, null, 0L);
+    }
+
+}
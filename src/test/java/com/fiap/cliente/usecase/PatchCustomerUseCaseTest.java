@@ -0,0 +1,117 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import com.fiap.cliente.exception.InvalidCpfException;
+import com.fiap.cliente.exception.InvalidZipCodeException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class PatchCustomerUseCaseTest {
+
+    @Mock
+    CustomerGateway customerGateway;
+
+    PatchCustomerUseCase patchCustomerUseCase;
+
+    UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        patchCustomerUseCase = new PatchCustomerUseCase(customerGateway);
+        customerId = UUID.randomUUID();
+    }
+
+    @Test
+    void patchAddressSuccessfully() {
+        CustomerPatch patch = new CustomerPatch(null, null, null, "Rua Nova", "456", null, null, "21000123");
+        when(customerGateway.patch(customerId, null, patch)).thenReturn(true);
+        when(customerGateway.findVersionById(customerId)).thenReturn(Optional.of(4L));
+
+        assertEquals(4L, patchCustomerUseCase.execute(customerId, null, patch));
+
+        verify(customerGateway).patch(customerId, null, patch);
+        verify(customerGateway, never()).existsById(any());
+    }
+
+    @Test
+    void patchWithExpectedVersionReturnsTheNextVersionWithoutReadingIt() {
+        CustomerPatch patch = new CustomerPatch("New Name", null, null, null, null, null, null, null);
+        when(customerGateway.patch(customerId, 2L, patch)).thenReturn(true);
+
+        assertEquals(3L, patchCustomerUseCase.execute(customerId, 2L, patch));
+
+        verify(customerGateway, never()).findVersionById(any());
+    }
+
+    @Test
+    void throwExceptionWhenCustomerNotFound() {
+        CustomerPatch patch = new CustomerPatch("New Name", null, null, null, null, null, null, null);
+        when(customerGateway.patch(customerId, null, patch)).thenReturn(false);
+
+        CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
+                () -> patchCustomerUseCase.execute(customerId, null, patch));
+
+        assertTrue(exception.getMessage().endsWith(customerId.toString()));
+    }
+
+    @Test
+    void throwExceptionWhenExpectedVersionIsStale() {
+        CustomerPatch patch = new CustomerPatch("New Name", null, null, null, null, null, null, null);
+        when(customerGateway.patch(customerId, 2L, patch)).thenReturn(false);
+        when(customerGateway.existsById(customerId)).thenReturn(true);
+
+        assertThrows(CustomerVersionMismatchException.class, () -> patchCustomerUseCase.execute(customerId, 2L, patch));
+    }
+
+    @Test
+    void emptyPatchOnlyReadsTheVersion() {
+        CustomerPatch patch = new CustomerPatch(null, null, null, null, null, null, null, null);
+        when(customerGateway.findVersionById(customerId)).thenReturn(Optional.of(5L));
+
+        assertEquals(5L, patchCustomerUseCase.execute(customerId, 5L, patch));
+
+        verify(customerGateway, never()).patch(any(), any(), any());
+    }
+
+    @Test
+    void emptyPatchWithStaleVersionThrowsException() {
+        CustomerPatch patch = new CustomerPatch(null, null, null, null, null, null, null, null);
+        when(customerGateway.findVersionById(customerId)).thenReturn(Optional.of(5L));
+
+        assertThrows(CustomerVersionMismatchException.class, () -> patchCustomerUseCase.execute(customerId, 4L, patch));
+    }
+
+    @Test
+    void emptyPatchOnMissingCustomerThrowsException() {
+        CustomerPatch patch = new CustomerPatch(null, null, null, null, null, null, null, null);
+        when(customerGateway.findVersionById(customerId)).thenReturn(Optional.empty());
+
+        assertThrows(CustomerNotFoundException.class, () -> patchCustomerUseCase.execute(customerId, null, patch));
+    }
+
+    @Test
+    void rejectInvalidValuesInPatch() {
+        assertThrows(InvalidCpfException.class,
+                () -> new CustomerPatch(null, "123", null, null, null, null, null, null));
+        assertThrows(InvalidZipCodeException.class,
+                () -> new CustomerPatch(null, null, null, null, null, null, null, "123"));
+    }
+
+}
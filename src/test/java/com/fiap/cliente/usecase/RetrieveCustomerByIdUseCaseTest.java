@@ -1,7 +1,7 @@
 package com.fiap.cliente.usecase;
 
-import com.fiap.cliente.domain.Address;
-import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerView;
 import com.fiap.cliente.exception.CustomerNotFoundException;
 import com.fiap.cliente.gateway.CustomerGateway;
 import lombok.AccessLevel;
@@ -13,10 +13,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,56 +33,66 @@ class RetrieveCustomerByIdUseCaseTest {
     RetrieveCustomerByIdUseCase retrieveCustomerByIdUseCase;
 
     UUID existingCustomerId;
-    Customer existingCustomer;
+    CustomerView existingCustomer;
 
     @BeforeEach
     void setUp() {
         retrieveCustomerByIdUseCase = new RetrieveCustomerByIdUseCase(customerGateway);
         existingCustomerId = UUID.randomUUID();
-        existingCustomer = new Customer(existingCustomerId, "Maria Silva", "12345678901",
-                LocalDate.of(1990, 5, 15), null);
+        existingCustomer = new CustomerView(existingCustomerId, "Maria Silva", "12345678909",
+                LocalDate.of(1990, 5, 15), null, null, null, null, null, 0L);
     }
 
     @Test
     void retrieveExistingCustomerSuccessfully() {
-        when(customerGateway.findById(existingCustomerId)).thenReturn(Optional.of(existingCustomer));
+        when(customerGateway.findViewById(existingCustomerId)).thenReturn(Optional.of(existingCustomer));
 
-        Customer retrievedCustomer = retrieveCustomerByIdUseCase.execute(existingCustomerId);
+        CustomerView retrievedCustomer = retrieveCustomerByIdUseCase.execute(existingCustomerId);
 
         assertNotNull(retrievedCustomer);
         assertEquals(existingCustomerId, retrievedCustomer.getId());
         assertEquals(existingCustomer.getFullName(), retrievedCustomer.getFullName());
         assertEquals(existingCustomer.getCpf(), retrievedCustomer.getCpf());
-        verify(customerGateway).findById(existingCustomerId);
+        verify(customerGateway).findViewById(existingCustomerId);
     }
 
     @Test
     void throwExceptionWhenCustomerNotFound() {
         UUID nonExistentId = UUID.randomUUID();
-        when(customerGateway.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(customerGateway.findViewById(nonExistentId)).thenReturn(Optional.empty());
 
         CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
                 () -> retrieveCustomerByIdUseCase.execute(nonExistentId));
 
         assertTrue(exception.getMessage().endsWith(nonExistentId.toString()));
-        verify(customerGateway).findById(nonExistentId);
+        verify(customerGateway).findViewById(nonExistentId);
     }
 
     @Test
     void retrieveCustomerWithCompleteAddressSuccessfully() {
-        Customer customerWithAddress = new Customer(existingCustomerId, "Ana Torres", "98765432100",
-                LocalDate.of(1995, 3, 10),
-                new Address("Rua Principal", "123", "São Paulo", "SP", "01234567"));
+        CustomerView customerWithAddress = new CustomerView(existingCustomerId, "Ana Torres", "98765432100",
+                LocalDate.of(1995, 3, 10), "Rua Principal", "123", "São Paulo", "SP", "01234567", 0L);
 
-        when(customerGateway.findById(existingCustomerId)).thenReturn(Optional.of(customerWithAddress));
+        when(customerGateway.findViewById(existingCustomerId)).thenReturn(Optional.of(customerWithAddress));
 
-        Customer retrievedCustomer = retrieveCustomerByIdUseCase.execute(existingCustomerId);
+        CustomerView retrievedCustomer = retrieveCustomerByIdUseCase.execute(existingCustomerId);
 
         assertNotNull(retrievedCustomer);
-        assertNotNull(retrievedCustomer.getAddress());
-        assertEquals("Rua Principal", retrievedCustomer.getAddress().getStreet());
-        assertEquals("São Paulo", retrievedCustomer.getAddress().getCity());
-        assertEquals("SP", retrievedCustomer.getAddress().getState());
-        verify(customerGateway).findById(existingCustomerId);
+        assertTrue(retrievedCustomer.hasAddress());
+        assertEquals("Rua Principal", retrievedCustomer.getStreet());
+        assertEquals("São Paulo", retrievedCustomer.getCity());
+        assertEquals("SP", retrievedCustomer.getState());
+        verify(customerGateway).findViewById(existingCustomerId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void retrieveSelectedFieldsOfCustomer() {
+        Set<CustomerField> fields = EnumSet.of(CustomerField.FULL_NAME);
+        when(customerGateway.findViewById(existingCustomerId, fields)).thenReturn(Optional.of(existingCustomer));
+
+        CustomerView retrievedCustomer = retrieveCustomerByIdUseCase.execute(existingCustomerId, fields);
+
+        assertEquals(existingCustomer, retrievedCustomer);
+        verify(customerGateway, never()).findViewById(existingCustomerId);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerLookup;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.LookupTooLargeException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class RetrieveCustomersByIdsUseCaseTest {
+
+    @Mock
+    CustomerGateway customerGateway;
+
+    RetrieveCustomersByIdsUseCase retrieveCustomersByIdsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        retrieveCustomersByIdsUseCase = new RetrieveCustomersByIdsUseCase(customerGateway);
+    }
+
+    @Test
+    void returnFoundCustomersInRequestOrderAndListMissingIds() {
+        UUID first = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(customerGateway.findAllById(any())).thenReturn(List.of(view(second), view(first)));
+
+        CustomerLookup lookup = retrieveCustomersByIdsUseCase.execute(Arrays.asList(first, missing, second, first, null));
+
+        assertEquals(List.of(first, second), lookup.getCustomers().stream().map(CustomerView::getId).toList());
+        assertEquals(List.of(missing), lookup.getMissing());
+        verify(customerGateway).findAllById(Set.of(first, missing, second));
+    }
+
+    @Test
+    void returnEmptyLookupForNoIds() {
+        when(customerGateway.findAllById(any())).thenReturn(Collections.emptyList());
+
+        CustomerLookup lookup = retrieveCustomersByIdsUseCase.execute(List.of());
+
+        assertTrue(lookup.getCustomers().isEmpty());
+        assertTrue(lookup.getMissing().isEmpty());
+    }
+
+    @Test
+    void failToLookUpMoreThanMaxIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i <= RetrieveCustomersByIdsUseCase.MAX_IDS; i++) {
+            ids.add(UUID.randomUUID());
+        }
+
+        assertThrows(LookupTooLargeException.class, () -> retrieveCustomersByIdsUseCase.execute(ids));
+        verifyNoInteractions(customerGateway);
+    }
+
+    private CustomerView view(UUID id) {
+        return new CustomerView(id, "Maria Souza", "12345678909", LocalDate.of(1990, 5, 15),
+                null, null, null, null, null, 0L);
+    }
+}
@@ -0,0 +1,152 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerField;
+import com.fiap.cliente.domain.CustomerFilter;
+import com.fiap.cliente.domain.CustomerPage;
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class RetrieveCustomersPageUseCaseTest {
+
+    @Mock
+    CustomerGateway customerGateway;
+
+    RetrieveCustomersPageUseCase retrieveCustomersPageUseCase;
+
+    @BeforeEach
+    void setUp() {
+        retrieveCustomersPageUseCase = new RetrieveCustomersPageUseCase(customerGateway);
+    }
+
+    @Test
+    void retrieveLastPageSuccessfully() {
+        List<CustomerView> customers = List.of(
+                new CustomerView(UUID.randomUUID(), "Joao Silva", "12345678909", LocalDate.of(1990, 5, 15), null, null, null, null, null, null),
+                new CustomerView(UUID.randomUUID(), "Eduardo Ramos", "52998224725", LocalDate.of(1985, 3, 20), null, null, null, null, null, null)
+        );
+
+        when(customerGateway.findPage(CustomerFilter.none(), null, 11, CustomerField.all())).thenReturn(customers);
+
+        CustomerPage result = retrieveCustomersPageUseCase.execute(CustomerFilter.none(), null, 10, false);
+
+        assertEquals(customers, result.getCustomers());
+        assertFalse(result.hasNext());
+        assertNull(result.getNextCursor());
+        assertNull(result.getApproximateTotal());
+        verify(customerGateway).findPage(CustomerFilter.none(), null, 11, CustomerField.all());
+        verify(customerGateway, never()).approximateCount();
+    }
+
+    @Test
+    void retrievePageWithNextCursor() {
+        UUID after = UUID.randomUUID();
+        CustomerView first = new CustomerView(UUID.randomUUID(), "Joao Silva", "12345678909", LocalDate.of(1990, 5, 15), null, null, null, null, null, null);
+        CustomerView second = new CustomerView(UUID.randomUUID(), "Eduardo Ramos", "52998224725", LocalDate.of(1985, 3, 20), null, null, null, null, null, null);
+        CustomerView probe = new CustomerView(UUID.randomUUID(), "Ana Torres", "98765432100", LocalDate.of(1995, 3, 10), null, null, null, null, null, null);
+
+        when(customerGateway.findPage(CustomerFilter.none(), after, 3, CustomerField.all()))
+                .thenReturn(List.of(first, second, probe));
+
+        CustomerPage result = retrieveCustomersPageUseCase.execute(CustomerFilter.none(), after, 2, false);
+
+        assertEquals(List.of(first, second), result.getCustomers());
+        assertTrue(result.hasNext());
+        assertEquals(second.getId(), result.getNextCursor());
+    }
+
+    @Test
+    void retrieveEmptyPageWhenNoCustomers() {
+        when(customerGateway.findPage(CustomerFilter.none(), null, 51, CustomerField.all())).thenReturn(Collections.emptyList());
+
+        CustomerPage result = retrieveCustomersPageUseCase.execute(CustomerFilter.none(), null, 50, false);
+
+        assertTrue(result.getCustomers().isEmpty());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void clampPageSizeToBounds() {
+        when(customerGateway.findPage(CustomerFilter.none(), null, RetrieveCustomersPageUseCase.MAX_PAGE_SIZE + 1, CustomerField.all()))
+                .thenReturn(Collections.emptyList());
+        when(customerGateway.findPage(CustomerFilter.none(), null, 2, CustomerField.all())).thenReturn(Collections.emptyList());
+
+        retrieveCustomersPageUseCase.execute(CustomerFilter.none(), null, 1_000_000, false);
+        retrieveCustomersPageUseCase.execute(CustomerFilter.none(), null, -5, false);
+
+        verify(customerGateway).findPage(CustomerFilter.none(), null, RetrieveCustomersPageUseCase.MAX_PAGE_SIZE + 1, CustomerField.all());
+        verify(customerGateway).findPage(CustomerFilter.none(), null, 2, CustomerField.all());
+    }
+
+    @Test
+    void includeApproximateTotalWhenRequested() {
+        when(customerGateway.findPage(CustomerFilter.none(), null, 51, CustomerField.all())).thenReturn(Collections.emptyList());
+        when(customerGateway.approximateCount()).thenReturn(1234L);
+
+        CustomerPage result = retrieveCustomersPageUseCase.execute(CustomerFilter.none(), null, 50, true);
+
+        assertEquals(1234L, result.getApproximateTotal());
+        verify(customerGateway).approximateCount();
+    }
+
+    @Test
+    void filterWithExactTotalWhenFiltersAreGiven() {
+        CustomerFilter filter = new CustomerFilter("SP", null, LocalDate.of(1980, 1, 1), null);
+        List<CustomerView> customers = List.of(
+                new CustomerView(UUID.randomUUID(), "Maria Silva", "12345678909", LocalDate.of(1990, 5, 15), null, null, null, null, null, null)
+        );
+        when(customerGateway.findPage(filter, null, 51, CustomerField.all())).thenReturn(customers);
+        when(customerGateway.count(filter)).thenReturn(1L);
+
+        CustomerPage result = retrieveCustomersPageUseCase.execute(filter, null, 50, true);
+
+        assertEquals(customers, result.getCustomers());
+        assertEquals(1L, result.getApproximateTotal());
+        verify(customerGateway, never()).approximateCount();
+    }
+
+    @Test
+    void retrieveCustomersWithCompleteInformation() {
+        List<CustomerView> customers = List.of(
+                new CustomerView(UUID.randomUUID(), "Maria Silva", "12345678909", LocalDate.of(1990, 5, 15),
+                        "Rua Principal", "123", "São Paulo", "SP", "01234567", 0L)
+        );
+
+        when(customerGateway.findPage(CustomerFilter.none(), null, 51, CustomerField.all())).thenReturn(customers);
+
+        CustomerPage result = retrieveCustomersPageUseCase.execute(CustomerFilter.none(), null, 50, false);
+
+        assertEquals(1, result.getCustomers().size());
+        assertTrue(result.getCustomers().get(0).hasAddress());
+        assertEquals("Rua Principal", result.getCustomers().get(0).getStreet());
+        assertEquals("São Paulo", result.getCustomers().get(0).getCity());
+    }
+
+    @Test
+    void passSelectedFieldsToGateway() {
+        Set<CustomerField> fields = EnumSet.of(CustomerField.ID, CustomerField.FULL_NAME);
+        when(customerGateway.findPage(CustomerFilter.none(), null, 51, fields)).thenReturn(Collections.emptyList());
+
+        retrieveCustomersPageUseCase.execute(CustomerFilter.none(), null, 50, false, fields);
+
+        verify(customerGateway).findPage(CustomerFilter.none(), null, 51, fields);
+    }
+}
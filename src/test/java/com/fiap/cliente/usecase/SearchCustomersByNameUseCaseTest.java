@@ -0,0 +1,63 @@
+package com.fiap.cliente.usecase;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.InvalidSearchTermException;
+import com.fiap.cliente.gateway.CustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class SearchCustomersByNameUseCaseTest {
+
+    @Mock
+    CustomerGateway customerGateway;
+
+    SearchCustomersByNameUseCase searchCustomersByNameUseCase;
+
+    @BeforeEach
+    void setUp() {
+        searchCustomersByNameUseCase = new SearchCustomersByNameUseCase(customerGateway);
+    }
+
+    @Test
+    void searchWithTrimmedTerm() {
+        List<CustomerView> customers = List.of(
+                new CustomerView(UUID.randomUUID(), "Joao Silva", "12345678909", LocalDate.of(1990, 5, 15),
+                        null, null, null, null, null, 0L)
+        );
+        when(customerGateway.searchByName("Joao", 20)).thenReturn(customers);
+
+        List<CustomerView> result = searchCustomersByNameUseCase.execute("  Joao ", 20);
+
+        assertEquals(customers, result);
+    }
+
+    @Test
+    void clampLimitToMaxResults() {
+        searchCustomersByNameUseCase.execute("Joao", 10_000);
+        searchCustomersByNameUseCase.execute("Joao", 0);
+
+        verify(customerGateway).searchByName("Joao", SearchCustomersByNameUseCase.MAX_RESULTS);
+        verify(customerGateway).searchByName("Joao", 1);
+    }
+
+    @Test
+    void failToSearchWithTooShortTerm() {
+        assertThrows(InvalidSearchTermException.class, () -> searchCustomersByNameUseCase.execute(" Jo ", 20));
+        assertThrows(InvalidSearchTermException.class, () -> searchCustomersByNameUseCase.execute(null, 20));
+        verifyNoInteractions(customerGateway);
+    }
+}
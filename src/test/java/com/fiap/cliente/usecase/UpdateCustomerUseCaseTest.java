@@ -2,7 +2,9 @@ package com.fiap.cliente.usecase;
 
 import com.fiap.cliente.domain.Address;
 import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
 import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
 import com.fiap.cliente.gateway.CustomerGateway;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
@@ -17,6 +19,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,74 +39,101 @@ class UpdateCustomerUseCaseTest {
     void setUp() {
         updateCustomerUseCase = new UpdateCustomerUseCase(customerGateway);
         existingCustomerId = UUID.randomUUID();
-        existingCustomer = new Customer(existingCustomerId, "Joao Silva", "12345678901",
-                LocalDate.of(1990, 5, 15), null);
-        updatedCustomer = new Customer(existingCustomerId, "Joao Silva Updated", "12345678901",
+        existingCustomer = new Customer(existingCustomerId, "Joao Silva", "12345678909",
+                LocalDate.of(1990, 5, 15), null, null);
+        updatedCustomer = new Customer(existingCustomerId, "Joao Silva Updated", "12345678909",
                 LocalDate.of(1990, 5, 15),
-                new Address("Rua Nova", "456", "Rio de Janeiro", "RJ", "21000123"));
+                new Address("Rua Nova", "456", "Rio de Janeiro", "RJ", "21000123"), null);
     }
 
     @Test
     void updateExistingCustomerSuccessfully() {
-        when(customerGateway.findById(existingCustomerId)).thenReturn(Optional.of(existingCustomer));
-        when(customerGateway.save(updatedCustomer)).thenReturn(updatedCustomer);
+        when(customerGateway.update(updatedCustomer)).thenReturn(true);
+        when(customerGateway.findVersionById(existingCustomerId)).thenReturn(Optional.of(7L));
 
-        updateCustomerUseCase.execute(updatedCustomer);
+        assertEquals(7L, updateCustomerUseCase.execute(updatedCustomer));
 
-        verify(customerGateway).findById(existingCustomerId);
-        verify(customerGateway).save(updatedCustomer);
+        verify(customerGateway).update(updatedCustomer);
+        verify(customerGateway, never()).existsById(any());
+    }
+
+    @Test
+    void updateWithExpectedVersionReturnsTheNextVersionWithoutReadingIt() {
+        Customer versionedCustomer = new Customer(existingCustomerId, "Joao Silva Updated", "12345678909",
+                LocalDate.of(1990, 5, 15), null, 2L);
+        when(customerGateway.update(versionedCustomer)).thenReturn(true);
+
+        assertEquals(3L, updateCustomerUseCase.execute(versionedCustomer));
+
+        verify(customerGateway, never()).findVersionById(any());
     }
 
     @Test
     void throwExceptionWhenCustomerNotFound() {
         UUID nonExistentId = UUID.randomUUID();
         Customer nonExistentCustomer = new Customer(nonExistentId, "Non Existent", "98765432100",
-                LocalDate.of(1995, 10, 20), null);
+                LocalDate.of(1995, 10, 20), null, null);
 
-        when(customerGateway.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(customerGateway.update(nonExistentCustomer)).thenReturn(false);
 
         CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
                 () -> updateCustomerUseCase.execute(nonExistentCustomer));
 
         assertTrue(exception.getMessage().endsWith(nonExistentId.toString()));
-        verify(customerGateway).findById(nonExistentId);
-        verify(customerGateway, never()).save(any());
+        verify(customerGateway).update(nonExistentCustomer);
+    }
+
+    @Test
+    void throwExceptionWhenExpectedVersionIsStale() {
+        Customer versionedCustomer = new Customer(existingCustomerId, "Joao Silva Updated", "12345678909",
+                LocalDate.of(1990, 5, 15), null, 2L);
+
+        when(customerGateway.update(versionedCustomer)).thenReturn(false);
+        when(customerGateway.existsById(existingCustomerId)).thenReturn(true);
+
+        assertThrows(CustomerVersionMismatchException.class, () -> updateCustomerUseCase.execute(versionedCustomer));
+    }
+
+    @Test
+    void throwNotFoundWhenVersionedCustomerDoesNotExist() {
+        Customer versionedCustomer = new Customer(existingCustomerId, "Joao Silva Updated", "12345678909",
+                LocalDate.of(1990, 5, 15), null, 2L);
+
+        when(customerGateway.update(versionedCustomer)).thenReturn(false);
+        when(customerGateway.existsById(existingCustomerId)).thenReturn(false);
+
+        assertThrows(CustomerNotFoundException.class, () -> updateCustomerUseCase.execute(versionedCustomer));
     }
 
     @Test
     void updateCustomerWithChangedName() {
         Customer nameUpdatedCustomer = new Customer(existingCustomerId, "New Name",
-                existingCustomer.getCpf(), existingCustomer.getBirthDate(), existingCustomer.getAddress());
+                existingCustomer.getCpf(), existingCustomer.getBirthDate(), existingCustomer.getAddress(), null);
 
-        when(customerGateway.findById(existingCustomerId)).thenReturn(Optional.of(existingCustomer));
-        when(customerGateway.save(nameUpdatedCustomer)).thenReturn(nameUpdatedCustomer);
+        when(customerGateway.update(nameUpdatedCustomer)).thenReturn(true);
+        when(customerGateway.findVersionById(existingCustomerId)).thenReturn(Optional.of(1L));
 
         updateCustomerUseCase.execute(nameUpdatedCustomer);
 
-        verify(customerGateway).save(nameUpdatedCustomer);
+        verify(customerGateway).update(nameUpdatedCustomer);
     }
 
     @Test
-    void updateCustomerWithNewAddress() {
-        when(customerGateway.findById(existingCustomerId)).thenReturn(Optional.of(existingCustomer));
-        when(customerGateway.save(updatedCustomer)).thenReturn(updatedCustomer);
-
-        updateCustomerUseCase.execute(updatedCustomer);
+    void propagateConflictWhenCpfBelongsToAnotherCustomer() {
+        when(customerGateway.update(updatedCustomer)).thenThrow(new CpfAlreadyInRegisteredException(updatedCustomer.getCpf()));
 
-        verify(customerGateway).save(updatedCustomer);
+        assertThrows(CpfAlreadyInRegisteredException.class, () -> updateCustomerUseCase.execute(updatedCustomer));
     }
 
     @Test
-    void propagateExceptionWhenSaveFails() {
+    void propagateExceptionWhenUpdateFails() {
         RuntimeException expectedError = new RuntimeException("Database error");
-        when(customerGateway.findById(existingCustomerId)).thenReturn(Optional.of(existingCustomer));
-        when(customerGateway.save(updatedCustomer)).thenThrow(expectedError);
+        when(customerGateway.update(updatedCustomer)).thenThrow(expectedError);
 
         RuntimeException exception = assertThrows(RuntimeException.class,
                 () -> updateCustomerUseCase.execute(updatedCustomer));
 
         assertEquals(expectedError, exception);
-        verify(customerGateway).findById(existingCustomerId);
-        verify(customerGateway).save(updatedCustomer);
+        verify(customerGateway).update(updatedCustomer);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.exception.CpfAlreadyInRegisteredException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactiveCreateCustomerUseCaseTest {
+
+    @Mock
+    ReactiveCustomerGateway customerGateway;
+
+    ReactiveCreateCustomerUseCase createCustomerUseCase;
+
+    Customer newCustomer;
+
+    @BeforeEach
+    void setUp() {
+        createCustomerUseCase = new ReactiveCreateCustomerUseCase(customerGateway);
+        newCustomer = new Customer(null, "Maria Santos", "98765432100", LocalDate.of(1985, 3, 20), null, null);
+    }
+
+    @Test
+    void createCustomerSuccessfully() {
+        Customer saved = new Customer(UUID.randomUUID(), "Maria Santos", "98765432100", LocalDate.of(1985, 3, 20), null, 0L);
+        when(customerGateway.create(newCustomer)).thenReturn(Mono.just(saved));
+
+        StepVerifier.create(createCustomerUseCase.execute(newCustomer))
+                .expectNext(saved)
+                .verifyComplete();
+    }
+
+    @Test
+    void propagateErrorWhenCpfAlreadyExists() {
+        when(customerGateway.create(newCustomer)).thenReturn(Mono.error(new CpfAlreadyInRegisteredException(newCustomer.getCpf())));
+
+        StepVerifier.create(createCustomerUseCase.execute(newCustomer))
+                .expectError(CpfAlreadyInRegisteredException.class)
+                .verify();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactiveDeleteCustomerByIdUseCaseTest {
+
+    @Mock
+    ReactiveCustomerGateway customerGateway;
+
+    ReactiveDeleteCustomerByIdUseCase deleteCustomerByIdUseCase;
+
+    UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        deleteCustomerByIdUseCase = new ReactiveDeleteCustomerByIdUseCase(customerGateway);
+        customerId = UUID.randomUUID();
+    }
+
+    @Test
+    void deleteExistingCustomer() {
+        when(customerGateway.deleteById(customerId)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(deleteCustomerByIdUseCase.execute(customerId))
+                .verifyComplete();
+    }
+
+    @Test
+    void failWhenCustomerNotFound() {
+        when(customerGateway.deleteById(customerId)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(deleteCustomerByIdUseCase.execute(customerId))
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+    }
+
+}
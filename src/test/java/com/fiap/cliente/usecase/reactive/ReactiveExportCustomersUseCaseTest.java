@@ -0,0 +1,49 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactiveExportCustomersUseCaseTest {
+
+    @Mock
+    ReactiveCustomerGateway customerGateway;
+
+    ReactiveExportCustomersUseCase exportCustomersUseCase;
+
+    @BeforeEach
+    void setUp() {
+        exportCustomersUseCase = new ReactiveExportCustomersUseCase(customerGateway);
+    }
+
+    @Test
+    void streamEveryCustomerOnDemand() {
+        CustomerView first = new CustomerView(UUID.randomUUID(), "Joao Silva", "12345678909", LocalDate.of(1990, 5, 15),
+                null, null, null, null, null, 0L);
+        CustomerView second = new CustomerView(UUID.randomUUID(), "Maria Santos", "98765432100", LocalDate.of(1985, 3, 20),
+                null, null, null, null, null, 0L);
+        when(customerGateway.streamAll()).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(exportCustomersUseCase.execute(), 1)
+                .expectNext(first)
+                .thenRequest(1)
+                .expectNext(second)
+                .verifyComplete();
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.CustomerPatch;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactivePatchCustomerUseCaseTest {
+
+    @Mock
+    ReactiveCustomerGateway customerGateway;
+
+    ReactivePatchCustomerUseCase patchCustomerUseCase;
+
+    UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        patchCustomerUseCase = new ReactivePatchCustomerUseCase(customerGateway);
+        customerId = UUID.randomUUID();
+    }
+
+    @Test
+    void patchExistingCustomer() {
+        CustomerPatch patch = new CustomerPatch(null, null, null, null, null, "Olinda", null, null);
+        when(customerGateway.patch(customerId, null, patch)).thenReturn(Mono.just(4L));
+
+        StepVerifier.create(patchCustomerUseCase.execute(customerId, null, patch))
+                .expectNext(4L)
+                .verifyComplete();
+    }
+
+    @Test
+    void failWhenCustomerNotFound() {
+        CustomerPatch patch = new CustomerPatch("New Name", null, null, null, null, null, null, null);
+        when(customerGateway.patch(customerId, null, patch)).thenReturn(Mono.empty());
+
+        StepVerifier.create(patchCustomerUseCase.execute(customerId, null, patch))
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void failWhenExpectedVersionIsStale() {
+        CustomerPatch patch = new CustomerPatch("New Name", null, null, null, null, null, null, null);
+        when(customerGateway.patch(customerId, 2L, patch)).thenReturn(Mono.empty());
+        when(customerGateway.existsById(customerId)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(patchCustomerUseCase.execute(customerId, 2L, patch))
+                .expectError(CustomerVersionMismatchException.class)
+                .verify();
+    }
+
+    @Test
+    void emptyPatchOnlyReadsTheVersion() {
+        CustomerPatch patch = new CustomerPatch(null, null, null, null, null, null, null, null);
+        when(customerGateway.findVersionById(customerId)).thenReturn(Mono.just(5L));
+
+        StepVerifier.create(patchCustomerUseCase.execute(customerId, 5L, patch))
+                .expectNext(5L)
+                .verifyComplete();
+        verify(customerGateway, never()).patch(customerId, 5L, patch);
+    }
+
+}
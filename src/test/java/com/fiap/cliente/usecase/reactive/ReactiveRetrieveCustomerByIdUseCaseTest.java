@@ -0,0 +1,58 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactiveRetrieveCustomerByIdUseCaseTest {
+
+    @Mock
+    ReactiveCustomerGateway customerGateway;
+
+    ReactiveRetrieveCustomerByIdUseCase retrieveCustomerByIdUseCase;
+
+    UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        retrieveCustomerByIdUseCase = new ReactiveRetrieveCustomerByIdUseCase(customerGateway);
+        customerId = UUID.randomUUID();
+    }
+
+    @Test
+    void retrieveExistingCustomer() {
+        CustomerView customer = new CustomerView(customerId, "Joao Silva", "12345678909", LocalDate.of(1990, 5, 15),
+                null, null, null, null, null, 0L);
+        when(customerGateway.findViewById(customerId)).thenReturn(Mono.just(customer));
+
+        StepVerifier.create(retrieveCustomerByIdUseCase.execute(customerId))
+                .expectNext(customer)
+                .verifyComplete();
+    }
+
+    @Test
+    void failWhenCustomerNotFound() {
+        when(customerGateway.findViewById(customerId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(retrieveCustomerByIdUseCase.execute(customerId))
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+    }
+
+}
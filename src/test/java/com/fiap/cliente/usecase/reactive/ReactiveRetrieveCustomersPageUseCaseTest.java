@@ -0,0 +1,75 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.CustomerView;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactiveRetrieveCustomersPageUseCaseTest {
+
+    @Mock
+    ReactiveCustomerGateway customerGateway;
+
+    ReactiveRetrieveCustomersPageUseCase retrieveCustomersPageUseCase;
+
+    @BeforeEach
+    void setUp() {
+        retrieveCustomersPageUseCase = new ReactiveRetrieveCustomersPageUseCase(customerGateway);
+    }
+
+    @Test
+    void returnPageWithNextCursorWhenMoreCustomersExist() {
+        CustomerView[] customers = customers(3);
+        when(customerGateway.findPage(null, 3)).thenReturn(Flux.just(customers));
+        when(customerGateway.approximateCount()).thenReturn(Mono.just(42L));
+
+        StepVerifier.create(retrieveCustomersPageUseCase.execute(null, 2, true))
+                .assertNext(page -> {
+                    assertEquals(2, page.getCustomers().size());
+                    assertEquals(customers[1].getId(), page.getNextCursor());
+                    assertEquals(42L, page.getApproximateTotal());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void returnLastPageWithoutCursorOrTotal() {
+        UUID after = UUID.randomUUID();
+        when(customerGateway.findPage(after, 501)).thenReturn(Flux.just(customers(2)));
+
+        StepVerifier.create(retrieveCustomersPageUseCase.execute(after, 10_000, false))
+                .assertNext(page -> {
+                    assertEquals(2, page.getCustomers().size());
+                    assertFalse(page.hasNext());
+                    assertNull(page.getApproximateTotal());
+                })
+                .verifyComplete();
+        verify(customerGateway, never()).approximateCount();
+    }
+
+    private static CustomerView[] customers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CustomerView(UUID.randomUUID(), "Customer " + i, String.format("%011d", i),
+                        LocalDate.of(1990, 1, 1), null, null, null, null, null, 0L))
+                .toArray(CustomerView[]::new);
+    }
+
+}
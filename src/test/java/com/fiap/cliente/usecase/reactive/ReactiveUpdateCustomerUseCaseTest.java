@@ -0,0 +1,75 @@
+package com.fiap.cliente.usecase.reactive;
+
+import com.fiap.cliente.domain.Customer;
+import com.fiap.cliente.exception.CustomerNotFoundException;
+import com.fiap.cliente.exception.CustomerVersionMismatchException;
+import com.fiap.cliente.gateway.ReactiveCustomerGateway;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ReactiveUpdateCustomerUseCaseTest {
+
+    @Mock
+    ReactiveCustomerGateway customerGateway;
+
+    ReactiveUpdateCustomerUseCase updateCustomerUseCase;
+
+    UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        updateCustomerUseCase = new ReactiveUpdateCustomerUseCase(customerGateway);
+        customerId = UUID.randomUUID();
+    }
+
+    @Test
+    void updateExistingCustomer() {
+        Customer customer = customer(null);
+        when(customerGateway.update(customer)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(updateCustomerUseCase.execute(customer))
+                .expectNext(1L)
+                .verifyComplete();
+        verify(customerGateway, never()).existsById(customerId);
+    }
+
+    @Test
+    void failWhenCustomerNotFound() {
+        Customer customer = customer(null);
+        when(customerGateway.update(customer)).thenReturn(Mono.empty());
+
+        StepVerifier.create(updateCustomerUseCase.execute(customer))
+                .expectError(CustomerNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void failWhenExpectedVersionIsStale() {
+        Customer customer = customer(2L);
+        when(customerGateway.update(customer)).thenReturn(Mono.empty());
+        when(customerGateway.existsById(customerId)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(updateCustomerUseCase.execute(customer))
+                .expectError(CustomerVersionMismatchException.class)
+                .verify();
+    }
+
+    private Customer customer(Long version) {
+        return new Customer(customerId, "Joao Silva", "12345678909", LocalDate.of(1990, 5, 15), null, version);
+    }
+
+}